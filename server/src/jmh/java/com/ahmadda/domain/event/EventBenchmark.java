@@ -0,0 +1,74 @@
+package com.ahmadda.domain.event;
+
+import com.ahmadda.domain.organization.Organization;
+import com.ahmadda.domain.organization.OrganizationMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 대상 계산과 참여 검증에서 반복 호출되는 {@link Event} 조회 메서드의 비용을 측정한다.
+ * <p>
+ * 구성원 수는 이벤트 스페이스 최대 인원(300명)까지, 게스트 수는 구성원 대비 비율로 조절한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBenchmark {
+
+    @Param({"10", "100", "300"})
+    private int memberCount;
+
+    @Param({"10", "50", "100"})
+    private int guestPercent;
+
+    private Event event;
+    private List<OrganizationMember> organizationMembers;
+    private OrganizationMember lastGuest;
+    private OrganizationMember nonGuest;
+
+    @Setup
+    public void setUp() {
+        Organization organization = EventBenchmarkFixture.createOrganization();
+        List<OrganizationMember> members =
+                EventBenchmarkFixture.createOrganizationMembers(organization, memberCount + 2);
+        OrganizationMember organizer = members.get(0);
+        nonGuest = members.get(1);
+        organizationMembers = members.subList(2, members.size());
+
+        int guestCount = Math.max(1, memberCount * guestPercent / 100);
+        List<OrganizationMember> guests = organizationMembers.subList(0, guestCount);
+        lastGuest = guests.getLast();
+
+        event = EventBenchmarkFixture.createEvent(organizer, organization, 1);
+        EventBenchmarkFixture.participateAll(event, guests);
+    }
+
+    @Benchmark
+    public List<OrganizationMember> getNonGuestOrganizationMembers() {
+        return event.getNonGuestOrganizationMembers(organizationMembers);
+    }
+
+    @Benchmark
+    public boolean isFull() {
+        return event.isFull();
+    }
+
+    @Benchmark
+    public boolean hasGuestHit() {
+        return event.hasGuest(lastGuest);
+    }
+
+    @Benchmark
+    public boolean hasGuestMiss() {
+        return event.hasGuest(nonGuest);
+    }
+}
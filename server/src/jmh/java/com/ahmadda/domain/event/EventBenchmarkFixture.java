@@ -0,0 +1,70 @@
+package com.ahmadda.domain.event;
+
+import com.ahmadda.domain.member.Member;
+import com.ahmadda.domain.organization.Organization;
+import com.ahmadda.domain.organization.OrganizationGroup;
+import com.ahmadda.domain.organization.OrganizationMember;
+import com.ahmadda.domain.organization.OrganizationMemberRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class EventBenchmarkFixture {
+
+    private static final int MAX_CAPACITY = 1_000;
+
+    private EventBenchmarkFixture() {
+    }
+
+    static Organization createOrganization() {
+        return Organization.create("벤치마크 이벤트 스페이스", "설명", "image.png");
+    }
+
+    static List<OrganizationMember> createOrganizationMembers(final Organization organization, final int count) {
+        OrganizationGroup group = OrganizationGroup.create("백엔드");
+        List<OrganizationMember> organizationMembers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Member member = Member.create("member" + i, "member" + i + "@ahmadda.com", "picture");
+            organizationMembers.add(OrganizationMember.create(
+                    "nickname" + i,
+                    member,
+                    organization,
+                    OrganizationMemberRole.USER,
+                    group
+            ));
+        }
+
+        return organizationMembers;
+    }
+
+    static Event createEvent(
+            final OrganizationMember organizer,
+            final Organization organization,
+            final int eventPeriodDays
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return Event.create(
+                "벤치마크 이벤트",
+                "설명",
+                "장소",
+                organizer,
+                organization,
+                EventOperationPeriod.create(
+                        now.minusDays(1), now.plusDays(1),
+                        now.plusDays(2), now.plusDays(2 + eventPeriodDays),
+                        now.minusDays(2)
+                ),
+                MAX_CAPACITY,
+                false
+        );
+    }
+
+    static void participateAll(final Event event, final List<OrganizationMember> guests) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OrganizationMember guest : guests) {
+            Guest.create(event, guest, now);
+        }
+    }
+}
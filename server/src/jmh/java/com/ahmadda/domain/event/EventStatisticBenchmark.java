@@ -0,0 +1,49 @@
+package com.ahmadda.domain.event;
+
+import com.ahmadda.domain.organization.Organization;
+import com.ahmadda.domain.organization.OrganizationMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 증가 시 일자별 지표를 선형 탐색하는 {@link EventStatistic#increaseViewCount(LocalDate)} 비용을 측정한다.
+ * <p>
+ * 탐색 비용이 가장 큰 마지막 일자를 기준으로 하며, 지표 개수는 이벤트 기간(일)으로 조절한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventStatisticBenchmark {
+
+    @Param({"1", "30", "90"})
+    private int eventPeriodDays;
+
+    private EventStatistic eventStatistic;
+    private LocalDate lastViewDate;
+
+    @Setup
+    public void setUp() {
+        Organization organization = EventBenchmarkFixture.createOrganization();
+        OrganizationMember organizer = EventBenchmarkFixture.createOrganizationMembers(organization, 1)
+                .getFirst();
+        Event event = EventBenchmarkFixture.createEvent(organizer, organization, eventPeriodDays);
+
+        eventStatistic = EventStatistic.create(event);
+        lastViewDate = event.getEventEnd()
+                .toLocalDate();
+    }
+
+    @Benchmark
+    public void increaseViewCount() {
+        eventStatistic.increaseViewCount(lastViewDate);
+    }
+}
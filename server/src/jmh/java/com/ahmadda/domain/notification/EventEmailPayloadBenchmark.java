@@ -0,0 +1,69 @@
+package com.ahmadda.domain.notification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 메일 본문 렌더링({@link EventEmailPayload#renderBody}) 비용을 측정한다.
+ * <p>
+ * 템플릿 엔진은 애플리케이션 기본 설정(classpath:templates/, .html, 캐시 사용)과 같게 구성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventEmailPayloadBenchmark {
+
+    private static final String REDIRECT_URL_PREFIX = "https://ahmadda.com/";
+
+    private TemplateEngine templateEngine;
+    private EventEmailPayload payload;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+
+        SpringTemplateEngine springTemplateEngine = new SpringTemplateEngine();
+        springTemplateEngine.setTemplateResolver(templateResolver);
+        templateEngine = springTemplateEngine;
+
+        LocalDateTime now = LocalDateTime.now();
+        payload = new EventEmailPayload(
+                new EventEmailPayload.Subject("우테코", "벤치마크 이벤트"),
+                new EventEmailPayload.Body(
+                        "이벤트 신청 마감이 30분 남았습니다.",
+                        "우테코",
+                        "벤치마크 이벤트",
+                        "주최자1,주최자2,주최자3 등",
+                        "선릉 캠퍼스",
+                        now.minusDays(1),
+                        now.plusDays(1),
+                        now.plusDays(2),
+                        now.plusDays(3),
+                        1L,
+                        1L
+                )
+        );
+    }
+
+    @Benchmark
+    public String renderBody() {
+        return payload.renderBody(templateEngine, REDIRECT_URL_PREFIX);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ahmadda.infra.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초대 코드 생성({@link Base62RandomCodeGenerator#generate(int)}) 비용을 측정한다.
+ * <p>
+ * 공유 {@code SecureRandom}의 경합을 확인할 수 있도록 여러 스레드에서 동시에 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class Base62RandomCodeGeneratorBenchmark {
+
+    @Param({"8", "16", "32"})
+    private int length;
+
+    private final Base62RandomCodeGenerator generator = new Base62RandomCodeGenerator();
+
+    @Benchmark
+    public String generate() {
+        return generator.generate(length);
+    }
+}
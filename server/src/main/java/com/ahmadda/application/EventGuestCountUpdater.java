@@ -0,0 +1,63 @@
+package com.ahmadda.application;
+
+import com.ahmadda.common.exception.UnprocessableEntityException;
+import com.ahmadda.domain.event.Event;
+import com.ahmadda.domain.event.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * 게스트 변경으로 달라진 이벤트 인원 수를 조건부 UPDATE 한 번으로 DB에 반영한다.
+ * <p>
+ * 도메인 변경 전후의 인원 수 차이만 증분으로 반영하고, 승인 인원이 늘어나는 경우에는
+ * {@code approved_guest_count < max_capacity} 조건을 만족할 때만 갱신되므로 행 잠금을 미리 잡지 않고도 초과 신청을 막는다.
+ * 갱신된 행이 없으면 좌석 확보에 실패한 것으로 보고 예외를 던져 트랜잭션 전체를 롤백한다.
+ */
+@Component
+public class EventGuestCountUpdater {
+
+    private final EventRepository eventRepository;
+    private final Counter rejectedReservationCounter;
+
+    public EventGuestCountUpdater(final EventRepository eventRepository, final MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.rejectedReservationCounter = Counter.builder("event.guest.reservation.rejected")
+                .description("수용 인원 초과로 거절된 좌석 확보 시도")
+                .register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> T update(final Event event, final Supplier<T> guestChange) {
+        int approvedGuestCount = event.getApprovedGuestCount();
+        int pendingGuestCount = event.getPendingGuestCount();
+
+        T result = guestChange.get();
+
+        int approvedDelta = event.getApprovedGuestCount() - approvedGuestCount;
+        int pendingDelta = event.getPendingGuestCount() - pendingGuestCount;
+        if (approvedDelta == 0 && pendingDelta == 0) {
+            return result;
+        }
+
+        int updatedCount = eventRepository.updateGuestCount(event.getId(), approvedDelta, pendingDelta);
+        if (updatedCount == 0) {
+            rejectedReservationCounter.increment();
+            throw new UnprocessableEntityException("수용 인원이 가득차 이벤트에 참여할 수 없습니다.");
+        }
+
+        return result;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void update(final Event event, final Runnable guestChange) {
+        update(event, () -> {
+            guestChange.run();
+            return null;
+        });
+    }
+}
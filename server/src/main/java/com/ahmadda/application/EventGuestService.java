@@ -1,6 +1,7 @@
 package com.ahmadda.application;
 
 import com.ahmadda.application.dto.AnswerCreateRequest;
+import com.ahmadda.application.dto.EventGuestChanged;
 import com.ahmadda.application.dto.EventParticipateRequest;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.common.exception.NotFoundException;
@@ -19,6 +20,7 @@ import com.ahmadda.domain.organization.OrganizationGroupRepository;
 import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +39,8 @@ public class EventGuestService {
     private final OrganizationMemberRepository organizationMemberRepository;
     private final EventOrganizerRepository eventOrganizerRepository;
     private final OrganizationGroupRepository organizationGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventGuestCountUpdater eventGuestCountUpdater;
 
     @Transactional(readOnly = true)
     public List<Guest> getGuests(final Long eventId) {
@@ -86,12 +90,16 @@ public class EventGuestService {
         Organization organization = event.getOrganization();
         OrganizationMember organizationMember = getOrganizationMember(organization.getId(), loginMember.memberId());
 
-        Guest guest = Guest.create(event, organizationMember, currentDateTime);
-
         Map<Question, String> questionAnswers = getQuestionAnswers(eventParticipateRequest.answers());
-        guest.submitAnswers(questionAnswers);
 
-        guestRepository.save(guest);
+        eventGuestCountUpdater.update(event, () -> {
+            Guest guest = Guest.create(event, organizationMember, currentDateTime);
+            guest.submitAnswers(questionAnswers);
+
+            return guestRepository.save(guest);
+        });
+
+        eventPublisher.publishEvent(EventGuestChanged.from(event));
     }
 
     @Transactional
@@ -104,8 +112,13 @@ public class EventGuestService {
                 .getId();
         OrganizationMember organizationMember = getOrganizationMember(organizationId, loginMember.memberId());
 
-        event.cancelParticipation(organizationMember, LocalDateTime.now());
+        eventGuestCountUpdater.update(
+                event,
+                () -> event.cancelParticipation(organizationMember, LocalDateTime.now())
+        );
         guestRepository.deleteByEventAndOrganizationMember(event, organizationMember);
+
+        eventPublisher.publishEvent(EventGuestChanged.from(event));
     }
 
     @Transactional(readOnly = true)
@@ -138,7 +151,9 @@ public class EventGuestService {
                 eventOrganizerRepository.findByEventAndOrganizationMember(event, organizationMember)
                         .orElseThrow(() -> new UnprocessableEntityException("주최자만 게스트를 승인할 수 있습니다."));
 
-        eventOrganizer.approve(guest);
+        eventGuestCountUpdater.update(event, () -> eventOrganizer.approve(guest));
+
+        eventPublisher.publishEvent(EventGuestChanged.from(event));
     }
 
     @Transactional
@@ -152,7 +167,9 @@ public class EventGuestService {
                 eventOrganizerRepository.findByEventAndOrganizationMember(event, organizationMember)
                         .orElseThrow(() -> new UnprocessableEntityException("주최자만 게스트를 거절할 수 있습니다."));
 
-        eventOrganizer.reject(guest);
+        eventGuestCountUpdater.update(event, () -> eventOrganizer.reject(guest));
+
+        eventPublisher.publishEvent(EventGuestChanged.from(event));
     }
 
     private Event getEvent(final Long eventId) {
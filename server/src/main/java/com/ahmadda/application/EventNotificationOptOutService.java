@@ -1,5 +1,6 @@
 package com.ahmadda.application;
 
+import com.ahmadda.application.dto.EventNotificationOptOutChanged;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.common.exception.UnprocessableEntityException;
@@ -13,10 +14,14 @@ import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationMemberWithOptStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +30,8 @@ public class EventNotificationOptOutService {
     private final EventRepository eventRepository;
     private final OrganizationMemberRepository organizationMemberRepository;
     private final EventNotificationOptOutRepository optOutRepository;
+    private final OptedOutMemberIdsCache optedOutMemberIdsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public EventNotificationOptOut optOut(final Long eventId, final LoginMember loginMember) {
@@ -40,8 +47,11 @@ public class EventNotificationOptOutService {
         }
 
         EventNotificationOptOut optOut = EventNotificationOptOut.create(organizationMember, event);
+        EventNotificationOptOut savedOptOut = optOutRepository.save(optOut);
 
-        return optOutRepository.save(optOut);
+        eventPublisher.publishEvent(EventNotificationOptOutChanged.from(event));
+
+        return savedOptOut;
     }
 
     @Transactional
@@ -58,6 +68,8 @@ public class EventNotificationOptOutService {
                         .orElseThrow(() -> new UnprocessableEntityException("존재하지 않는 수신 거부 설정입니다."));
 
         optOutRepository.delete(optOut);
+
+        eventPublisher.publishEvent(EventNotificationOptOutChanged.from(event));
     }
 
     @Transactional(readOnly = true)
@@ -78,15 +90,15 @@ public class EventNotificationOptOutService {
 
     @Transactional(readOnly = true)
     public List<GuestWithOptStatus> mapGuests(final List<Guest> guests) {
-        return guests.stream()
-                .map(guest -> {
-                    boolean optedOut = optOutRepository.existsByEventAndOrganizationMember(
-                            guest.getEvent(),
-                            guest.getOrganizationMember()
-                    );
-
-                    return GuestWithOptStatus.create(guest, optedOut);
-                })
+        Map<Event, List<Guest>> guestsByEvent = guests.stream()
+                .collect(Collectors.groupingBy(Guest::getEvent, LinkedHashMap::new, Collectors.toList()));
+
+        return guestsByEvent.entrySet()
+                .stream()
+                .flatMap(eventGuests -> GuestWithOptStatus.createWithOptOutStatus(
+                        eventGuests.getValue(),
+                        optedOutMemberIdsCache.get(eventGuests.getKey())
+                ).stream())
                 .toList();
     }
 
@@ -97,16 +109,11 @@ public class EventNotificationOptOutService {
     ) {
         Event event = getEvent(eventId);
 
-        return members.stream()
-                .map(member -> {
-                    boolean optedOut = optOutRepository.existsByEventAndOrganizationMember(
-                            event,
-                            member
-                    );
-
-                    return OrganizationMemberWithOptStatus.create(member, optedOut, event);
-                })
-                .toList();
+        return OrganizationMemberWithOptStatus.createWithOptOutStatus(
+                members,
+                event,
+                optedOutMemberIdsCache.get(event)
+        );
     }
 
     private Event getEvent(final Long eventId) {
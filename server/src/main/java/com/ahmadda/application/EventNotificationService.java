@@ -9,7 +9,6 @@ import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.member.MemberRepository;
-import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
 import com.ahmadda.domain.notification.Reminder;
 import com.ahmadda.domain.notification.ReminderHistory;
 import com.ahmadda.domain.notification.ReminderHistoryRepository;
@@ -38,7 +37,7 @@ public class EventNotificationService {
     private final Reminder reminder;
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
-    private final EventNotificationOptOutRepository eventNotificationOptOutRepository;
+    private final OptedOutMemberIdsCache optedOutMemberIdsCache;
     private final ReminderHistoryRepository reminderHistoryRepository;
 
     @Transactional
@@ -162,12 +161,12 @@ public class EventNotificationService {
             final List<OrganizationMember> organizationMembers,
             final Event event
     ) {
-        boolean hasOptOut = organizationMembers.stream()
-                .map(organizationMember -> OrganizationMemberWithOptStatus.createWithOptOutStatus(
-                        organizationMember,
+        boolean hasOptOut = OrganizationMemberWithOptStatus.createWithOptOutStatus(
+                        organizationMembers,
                         event,
-                        eventNotificationOptOutRepository
-                ))
+                        optedOutMemberIdsCache.get(event)
+                )
+                .stream()
                 .anyMatch(OrganizationMemberWithOptStatus::isOptedOut);
 
         if (hasOptOut) {
@@ -182,6 +181,6 @@ public class EventNotificationService {
     ) {
         ReminderHistory reminderHistory = reminder.remind(recipients, event, request);
 
-        reminderHistoryRepository.save(reminderHistory);
+        reminderHistoryRepository.saveWithRecipients(reminderHistory);
     }
 }
@@ -1,14 +1,17 @@
 package com.ahmadda.application;
 
+import com.ahmadda.application.dto.ActiveEventSummary;
 import com.ahmadda.application.dto.EventCreateRequest;
 import com.ahmadda.application.dto.EventCreated;
 import com.ahmadda.application.dto.EventRead;
+import com.ahmadda.application.dto.EventRegistrationClosed;
 import com.ahmadda.application.dto.EventUpdateRequest;
 import com.ahmadda.application.dto.EventUpdated;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.application.dto.QuestionCreateRequest;
 import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.common.exception.UnprocessableEntityException;
+import com.ahmadda.domain.event.ActiveEventRow;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventOperationPeriod;
 import com.ahmadda.domain.event.EventReminderGroup;
@@ -18,7 +21,6 @@ import com.ahmadda.domain.event.GuestWithOptStatus;
 import com.ahmadda.domain.event.Question;
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.member.MemberRepository;
-import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
 import com.ahmadda.domain.notification.Reminder;
 import com.ahmadda.domain.notification.ReminderHistory;
 import com.ahmadda.domain.notification.ReminderHistoryRepository;
@@ -30,6 +32,7 @@ import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -57,7 +60,7 @@ public class EventService {
     private final OrganizationMemberRepository organizationMemberRepository;
     private final Reminder reminder;
     private final ReminderHistoryRepository reminderHistoryRepository;
-    private final EventNotificationOptOutRepository eventNotificationOptOutRepository;
+    private final OptedOutMemberIdsCache optedOutMemberIdsCache;
     private final EventReminderGroupRepository eventReminderGroupRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final OrganizationGroupRepository organizationGroupRepository;
@@ -114,14 +117,17 @@ public class EventService {
         OrganizationMember organizationMember = getOrganizationMember(organization.getId(), memberId);
 
         event.closeRegistrationAt(organizationMember, currentDateTime);
+
+        eventPublisher.publishEvent(EventRegistrationClosed.from(event));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Event getEvent(final Long eventId) {
-        Event event = getEventById(eventId);
-        eventPublisher.publishEvent(EventRead.from(event));
+        return getEventById(eventId);
+    }
 
-        return event;
+    public void readEvent(final Long eventId) {
+        eventPublisher.publishEvent(new EventRead(eventId));
     }
 
     @Transactional
@@ -190,10 +196,19 @@ public class EventService {
     }
 
     @Transactional(readOnly = true)
-    public List<Event> getActiveEvents(final Long organizationId) {
-        Organization organization = getOrganization(organizationId);
+    public List<ActiveEventSummary> getActiveEventSummaries(
+            final Long organizationId,
+            @Nullable final LoginMember loginMember
+    ) {
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new NotFoundException("존재하지 않는 이벤트 스페이스 정보입니다.");
+        }
+
+        Long memberId = loginMember == null ? null : loginMember.memberId();
+        List<ActiveEventRow> activeEventRows =
+                eventRepository.findActiveEventRows(organizationId, LocalDateTime.now(), memberId);
 
-        return organization.getActiveEvents(LocalDateTime.now());
+        return ActiveEventSummary.from(activeEventRows);
     }
 
     @Transactional(readOnly = true)
@@ -326,10 +341,8 @@ public class EventService {
 
     private void notifyEventUpdated(final Event event) {
         String content = "이벤트 정보가 수정되었습니다.";
-        List<GuestWithOptStatus> guestsWithOptOut = event.getGuests()
-                .stream()
-                .map(guest -> GuestWithOptStatus.createWithOptOutStatus(guest, eventNotificationOptOutRepository))
-                .toList();
+        List<GuestWithOptStatus> guestsWithOptOut =
+                GuestWithOptStatus.createWithOptOutStatus(event.getGuests(), optedOutMemberIdsCache.get(event));
         List<OrganizationMember> recipients = GuestWithOptStatus.extractOptInOrganizationMembers(guestsWithOptOut);
 
         sendAndRecordReminder(event, recipients, content);
@@ -341,7 +354,7 @@ public class EventService {
             final String content
     ) {
         ReminderHistory reminderHistory = reminder.remind(recipients, event, content);
-        reminderHistoryRepository.save(reminderHistory);
+        reminderHistoryRepository.saveWithRecipients(reminderHistory);
     }
 
     private void createEventReminderGroups(List<OrganizationGroup> groups, Event event) {
@@ -6,17 +6,20 @@ import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.event.EventStatistic;
 import com.ahmadda.domain.event.EventStatisticRepository;
+import com.ahmadda.domain.event.EventViewCount;
 import com.ahmadda.domain.event.EventViewMetric;
 import com.ahmadda.domain.organization.Organization;
 import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventStatisticService {
@@ -35,6 +38,31 @@ public class EventStatisticService {
         return eventStatistic.findEventViewMetrics(organizationMember, LocalDate.now());
     }
 
+    @Transactional
+    public void increaseViewCounts(final List<EventViewCount> eventViewCounts) {
+        List<EventViewCount> missedEventViewCounts = eventStatisticRepository.increaseViewCounts(eventViewCounts);
+
+        missedEventViewCounts.forEach(this::increaseViewCountWithNewStatistic);
+    }
+
+    private void increaseViewCountWithNewStatistic(final EventViewCount eventViewCount) {
+        if (eventStatisticRepository.findByEventId(eventViewCount.eventId())
+                .isPresent()) {
+            return;
+        }
+
+        eventRepository.findById(eventViewCount.eventId())
+                .ifPresentOrElse(
+                        event -> {
+                            EventStatistic eventStatistic = EventStatistic.create(event);
+                            eventStatistic.increaseViewCount(eventViewCount.viewDate(), eventViewCount.count());
+
+                            eventStatisticRepository.save(eventStatistic);
+                        },
+                        () -> log.warn("eventViewCountDropped - eventId: {}", eventViewCount.eventId())
+                );
+    }
+
     private OrganizationMember getOrganizationMember(final LoginMember loginMember, final Organization organization) {
         return organizationMemberRepository.findByOrganizationIdAndMemberId(
                         organization.getId(),
@@ -0,0 +1,85 @@
+package com.ahmadda.application;
+
+import com.ahmadda.domain.event.EventViewCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 조회수를 DB에 바로 반영하지 않고 메모리에 누적해 두는 버퍼.
+ * <p>
+ * 인기 이벤트의 동시 조회가 같은 event_view_metric 행을 두고 경합하지 않도록,
+ * 이벤트/일자별 {@link LongAdder}에 조회수를 흡수한 뒤 주기적으로 증분만 모아서 반영한다.
+ * 버퍼는 인스턴스마다 독립적이므로 반영 작업에는 분산 락을 걸지 않는다.
+ */
+@Component
+public class EventViewCountBuffer {
+
+    private final ConcurrentMap<EventViewKey, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    public EventViewCountBuffer(final MeterRegistry meterRegistry) {
+        Gauge.builder("event.view.pending", this::countPending)
+                .description("아직 DB에 반영되지 않은 이벤트 조회수")
+                .register(meterRegistry);
+    }
+
+    public void increase(final Long eventId, final LocalDate viewDate) {
+        pendingViewCounts.computeIfAbsent(new EventViewKey(eventId, viewDate), key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 버퍼를 비운다.
+     * <p>
+     * 지난 일자의 키는 더 이상 증가하지 않으므로 꺼내기 전에 맵에서 제거해 키가 무한히 쌓이지 않도록 한다.
+     */
+    public List<EventViewCount> drain(final LocalDate currentDate) {
+        List<EventViewCount> eventViewCounts = new ArrayList<>();
+
+        pendingViewCounts.forEach((key, viewCount) -> {
+            if (key.viewDate()
+                    .isBefore(currentDate)) {
+                pendingViewCounts.remove(key, viewCount);
+            }
+
+            long count = viewCount.sumThenReset();
+            if (count > 0) {
+                eventViewCounts.add(new EventViewCount(key.eventId(), key.viewDate(), Math.toIntExact(count)));
+            }
+        });
+
+        return eventViewCounts;
+    }
+
+    /**
+     * 반영에 실패한 조회수를 다음 반영 주기에 다시 시도할 수 있도록 버퍼에 되돌린다.
+     */
+    public void restore(final List<EventViewCount> eventViewCounts) {
+        eventViewCounts.forEach(eventViewCount -> pendingViewCounts.computeIfAbsent(
+                        new EventViewKey(eventViewCount.eventId(), eventViewCount.viewDate()),
+                        key -> new LongAdder()
+                )
+                .add(eventViewCount.count()));
+    }
+
+    public long countPending() {
+        return pendingViewCounts.values()
+                .stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    private record EventViewKey(
+            Long eventId,
+            LocalDate viewDate
+    ) {
+
+    }
+}
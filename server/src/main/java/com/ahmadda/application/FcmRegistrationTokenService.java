@@ -6,37 +6,54 @@ import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.member.MemberRepository;
 import com.ahmadda.infra.notification.push.FcmRegistrationToken;
+import com.ahmadda.infra.notification.push.FcmRegistrationTokenChanged;
 import com.ahmadda.infra.notification.push.FcmRegistrationTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class FcmRegistrationTokenService {
 
     private final MemberRepository memberRepository;
     private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 이미 등록된 토큰이면 갱신 시각만 바꾸고, 처음 등록하는 토큰이면 저장한 뒤 회원의 토큰 캐시를 무효화한다.
+     */
     @Transactional
     public FcmRegistrationToken registerFcmRegistrationToken(
             final FcmRegistrationTokenRequest request,
             final LoginMember loginMember
     ) {
-        return fcmRegistrationTokenRepository.findByRegistrationTokenAndMemberId(
+        Optional<FcmRegistrationToken> registeredToken =
+                fcmRegistrationTokenRepository.findByRegistrationTokenAndMemberId(
                         request.registrationToken(),
                         loginMember.memberId()
-                )
-                .orElseGet(() -> {
-                    Member member = memberRepository.findById(loginMember.memberId())
-                            .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
-
-                    FcmRegistrationToken registrationToken = FcmRegistrationToken.createNow(
-                            member.getId(),
-                            request.registrationToken()
-                    );
-
-                    return fcmRegistrationTokenRepository.save(registrationToken);
-                });
+                );
+        if (registeredToken.isPresent()) {
+            FcmRegistrationToken registrationToken = registeredToken.get();
+            registrationToken.refreshNow();
+
+            return registrationToken;
+        }
+
+        Member member = memberRepository.findById(loginMember.memberId())
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
+
+        FcmRegistrationToken registrationToken = FcmRegistrationToken.createNow(
+                member.getId(),
+                request.registrationToken()
+        );
+
+        FcmRegistrationToken savedRegistrationToken = fcmRegistrationTokenRepository.save(registrationToken);
+        eventPublisher.publishEvent(FcmRegistrationTokenChanged.from(member.getId()));
+
+        return savedRegistrationToken;
     }
 }
@@ -0,0 +1,55 @@
+package com.ahmadda.application;
+
+import com.ahmadda.application.dto.EventNotificationOptOutChanged;
+import com.ahmadda.domain.event.Event;
+import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
+import com.ahmadda.domain.notification.OptedOutMemberIds;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 이벤트별 알림 수신 거부 구성원 ID 집합을 보관하는 로컬 캐시.
+ * <p>
+ * 리마인더와 알림 발송은 같은 이벤트의 수신 거부 여부를 반복해서 확인하므로, 처음 조회할 때 이벤트 단위로 모두 읽어 둔다.
+ * 수신 거부 설정/취소는 커밋 이후 즉시 무효화하고, 다른 인스턴스에서의 변경은 TTL 만료로 반영한다.
+ */
+@Component
+public class OptedOutMemberIdsCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final EventNotificationOptOutRepository optOutRepository;
+    private final Cache<Long, OptedOutMemberIds> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    public OptedOutMemberIdsCache(
+            final EventNotificationOptOutRepository optOutRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        this.optOutRepository = optOutRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "optedOutMemberIds");
+    }
+
+    public OptedOutMemberIds get(final Event event) {
+        return cache.get(event.getId(), optOutRepository::findOptedOutMemberIds);
+    }
+
+    public void invalidate(final Long eventId) {
+        cache.invalidate(eventId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventNotificationOptOutChanged(final EventNotificationOptOutChanged eventNotificationOptOutChanged) {
+        invalidate(eventNotificationOptOutChanged.eventId());
+    }
+}
@@ -3,11 +3,11 @@ package com.ahmadda.application;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.domain.event.Event;
-import com.ahmadda.domain.event.EventOrganizer;
-import com.ahmadda.domain.event.EventOrganizerRepository;
+import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,26 +17,81 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrganizationMemberEventService {
 
-    private final EventOrganizerRepository eventOrganizerRepository;
+    private static final long FIRST_EVENT_CURSOR = 0L;
+
+    private final EventRepository eventRepository;
     private final OrganizationMemberRepository organizationMemberRepository;
 
     @Transactional(readOnly = true)
     public List<Event> getOwnerEvents(final Long organizationId, final LoginMember loginMember) {
         OrganizationMember organizationMember = getOrganizationMember(organizationId, loginMember);
 
-        List<EventOrganizer> eventOrganizers =
-                eventOrganizerRepository.findAllByOrganizationMemberId(organizationMember.getId());
+        return getOwnerEvents(organizationMember, FIRST_EVENT_CURSOR, Pageable.unpaged());
+    }
 
-        return eventOrganizers.stream()
-                .map((EventOrganizer::getEvent))
-                .toList();
+    @Transactional(readOnly = true)
+    public List<Event> getOwnerEvents(
+            final Long organizationId,
+            final LoginMember loginMember,
+            final Long lastEventId,
+            final int pageSize
+    ) {
+        OrganizationMember organizationMember = getOrganizationMember(organizationId, loginMember);
+
+        return getOwnerEvents(organizationMember, lastEventId, Pageable.ofSize(pageSize));
     }
 
     @Transactional(readOnly = true)
     public List<Event> getParticipantEvents(final Long organizationId, final LoginMember loginMember) {
         OrganizationMember organizationMember = getOrganizationMember(organizationId, loginMember);
 
-        return organizationMember.getParticipatedEvents();
+        return getParticipantEvents(organizationMember, FIRST_EVENT_CURSOR, Pageable.unpaged());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getParticipantEvents(
+            final Long organizationId,
+            final LoginMember loginMember,
+            final Long lastEventId,
+            final int pageSize
+    ) {
+        OrganizationMember organizationMember = getOrganizationMember(organizationId, loginMember);
+
+        return getParticipantEvents(organizationMember, lastEventId, Pageable.ofSize(pageSize));
+    }
+
+    private List<Event> getOwnerEvents(
+            final OrganizationMember organizationMember,
+            final Long lastEventId,
+            final Pageable pageable
+    ) {
+        List<Event> events =
+                eventRepository.findOrganizedEventsWithCursor(organizationMember, lastEventId, pageable);
+
+        return fetchOrganizers(events);
+    }
+
+    private List<Event> getParticipantEvents(
+            final OrganizationMember organizationMember,
+            final Long lastEventId,
+            final Pageable pageable
+    ) {
+        List<Event> events =
+                eventRepository.findParticipatedEventsWithCursor(organizationMember, lastEventId, pageable);
+
+        return fetchOrganizers(events);
+    }
+
+    private List<Event> fetchOrganizers(final List<Event> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        List<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .toList();
+
+        return eventRepository.findAllWithOrganizersByIdIn(eventIds);
     }
 
     private OrganizationMember getOrganizationMember(final Long organizationId, final LoginMember loginMember) {
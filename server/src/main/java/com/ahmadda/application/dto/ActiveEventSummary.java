@@ -0,0 +1,64 @@
+package com.ahmadda.application.dto;
+
+import com.ahmadda.domain.event.ActiveEventRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record ActiveEventSummary(
+        Long eventId,
+        String title,
+        String description,
+        LocalDateTime eventStart,
+        LocalDateTime eventEnd,
+        int currentGuestCount,
+        int maxCapacity,
+        String place,
+        LocalDateTime registrationStart,
+        LocalDateTime registrationEnd,
+        List<String> organizerNicknames,
+        boolean isOrganizer,
+        boolean isGuest
+) {
+
+    public static List<ActiveEventSummary> from(final List<ActiveEventRow> activeEventRows) {
+        Map<Long, List<ActiveEventRow>> rowsByEventId = new LinkedHashMap<>();
+        for (ActiveEventRow activeEventRow : activeEventRows) {
+            rowsByEventId.computeIfAbsent(activeEventRow.eventId(), eventId -> new ArrayList<>())
+                    .add(activeEventRow);
+        }
+
+        return rowsByEventId.values()
+                .stream()
+                .map(ActiveEventSummary::merge)
+                .toList();
+    }
+
+    private static ActiveEventSummary merge(final List<ActiveEventRow> eventRows) {
+        ActiveEventRow first = eventRows.getFirst();
+        List<String> organizerNicknames = eventRows.stream()
+                .map(ActiveEventRow::organizerNickname)
+                .toList();
+        boolean isOrganizer = eventRows.stream()
+                .anyMatch(ActiveEventRow::isOrganizer);
+
+        return new ActiveEventSummary(
+                first.eventId(),
+                first.title(),
+                first.description(),
+                first.eventStart(),
+                first.eventEnd(),
+                first.approvedGuestCount() + first.pendingGuestCount(),
+                first.maxCapacity(),
+                first.place(),
+                first.registrationStart(),
+                first.registrationEnd(),
+                organizerNicknames,
+                isOrganizer,
+                first.isGuest()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.ahmadda.application.dto;
+
+import com.ahmadda.domain.event.Event;
+
+public record EventGuestChanged(Long eventId) {
+
+    public static EventGuestChanged from(final Event event) {
+        return new EventGuestChanged(event.getId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ahmadda.application.dto;
+
+import com.ahmadda.domain.event.Event;
+
+public record EventNotificationOptOutChanged(Long eventId) {
+
+    public static EventNotificationOptOutChanged from(final Event event) {
+        return new EventNotificationOptOutChanged(event.getId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ahmadda.application.dto;
+
+import com.ahmadda.domain.event.Event;
+
+public record EventRegistrationClosed(Long eventId) {
+
+    public static EventRegistrationClosed from(final Event event) {
+        return new EventRegistrationClosed(event.getId());
+    }
+}
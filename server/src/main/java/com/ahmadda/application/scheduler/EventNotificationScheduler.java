@@ -1,11 +1,11 @@
 package com.ahmadda.application.scheduler;
 
+import com.ahmadda.application.OptedOutMemberIdsCache;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventReminderGroupRepository;
 import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.event.Guest;
 import com.ahmadda.domain.event.GuestWithOptStatus;
-import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
 import com.ahmadda.domain.notification.Reminder;
 import com.ahmadda.domain.notification.ReminderHistory;
 import com.ahmadda.domain.notification.ReminderHistoryRepository;
@@ -33,7 +33,7 @@ public class EventNotificationScheduler {
     private static final Duration EVENT_START_REMINDER_LEAD_TIME = Duration.ofHours(24);
 
     private final EventRepository eventRepository;
-    private final EventNotificationOptOutRepository eventNotificationOptOutRepository;
+    private final OptedOutMemberIdsCache optedOutMemberIdsCache;
     private final Reminder reminder;
     private final ReminderHistoryRepository reminderHistoryRepository;
     private final EventReminderGroupRepository eventReminderGroupRepository;
@@ -96,14 +96,11 @@ public class EventNotificationScheduler {
                 event.getNonGuestOrganizationMembers(groupOrganizationMembers);
 
         return OrganizationMemberWithOptStatus.extractOptInOrganizationMembers(
-                nonGuestOrganizationMembers
-                        .stream()
-                        .map(organizationMember -> OrganizationMemberWithOptStatus.createWithOptOutStatus(
-                                organizationMember,
-                                event,
-                                eventNotificationOptOutRepository
-                        ))
-                        .toList()
+                OrganizationMemberWithOptStatus.createWithOptOutStatus(
+                        nonGuestOrganizationMembers,
+                        event,
+                        optedOutMemberIdsCache.get(event)
+                )
         );
     }
 
@@ -111,13 +108,7 @@ public class EventNotificationScheduler {
         List<Guest> guests = event.getGuests();
 
         return GuestWithOptStatus.extractOptInOrganizationMembers(
-                guests
-                        .stream()
-                        .map(guest -> GuestWithOptStatus.createWithOptOutStatus(
-                                guest,
-                                eventNotificationOptOutRepository
-                        ))
-                        .toList()
+                GuestWithOptStatus.createWithOptOutStatus(guests, optedOutMemberIdsCache.get(event))
         );
     }
 
@@ -127,6 +118,6 @@ public class EventNotificationScheduler {
             final String content
     ) {
         ReminderHistory reminderHistory = reminder.remind(recipients, upcomingEvent, content);
-        reminderHistoryRepository.save(reminderHistory);
+        reminderHistoryRepository.saveWithRecipients(reminderHistory);
     }
 }
@@ -0,0 +1,43 @@
+package com.ahmadda.application.scheduler;
+
+import com.ahmadda.application.EventStatisticService;
+import com.ahmadda.application.EventViewCountBuffer;
+import com.ahmadda.domain.event.EventViewCount;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventViewCountFlushScheduler {
+
+    private final EventViewCountBuffer eventViewCountBuffer;
+    private final EventStatisticService eventStatisticService;
+
+    // 버퍼가 인스턴스 메모리에 있으므로 SchedulerLock 없이 모든 인스턴스에서 실행한다.
+    @Scheduled(fixedDelay = 5 * 1000)
+    public void flushViewCounts() {
+        List<EventViewCount> eventViewCounts = eventViewCountBuffer.drain(LocalDate.now());
+        if (eventViewCounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            eventStatisticService.increaseViewCounts(eventViewCounts);
+        } catch (RuntimeException e) {
+            log.error("eventViewCountFlushError: {}", e.getMessage(), e);
+            eventViewCountBuffer.restore(eventViewCounts);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ahmadda.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -63,6 +64,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return super.handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.UNPROCESSABLE_ENTITY, request);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(final Exception ex, final WebRequest request) {
+        ProblemDetail body = super.createProblemDetail(
+                ex,
+                HttpStatus.CONFLICT,
+                "다른 요청과 동시에 처리되어 반영하지 못했습니다. 다시 시도해주세요.",
+                null,
+                null,
+                request
+        );
+
+        return super.handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.CONFLICT, request);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             final MethodArgumentNotValidException methodArgumentNotValidException,
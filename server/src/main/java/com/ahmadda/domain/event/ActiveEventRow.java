@@ -0,0 +1,27 @@
+package com.ahmadda.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메인 화면의 활성 이벤트 목록을 한 번의 조회로 구성하기 위한 행 단위 프로젝션.
+ * <p>
+ * 이벤트와 주최자를 조인한 결과이므로 주최자 수만큼 같은 이벤트의 행이 반복된다.
+ */
+public record ActiveEventRow(
+        Long eventId,
+        String title,
+        String description,
+        LocalDateTime eventStart,
+        LocalDateTime eventEnd,
+        int approvedGuestCount,
+        int pendingGuestCount,
+        int maxCapacity,
+        String place,
+        LocalDateTime registrationStart,
+        LocalDateTime registrationEnd,
+        String organizerNickname,
+        boolean isOrganizer,
+        boolean isGuest
+) {
+
+}
@@ -19,10 +19,12 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.jspecify.annotations.Nullable;
@@ -71,6 +73,7 @@ public class Event extends BaseEntity {
 
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "event")
     @BatchSize(size = 32)
+    @OptimisticLock(excluded = true)
     private final List<Guest> guests = new ArrayList<>();
 
     @Column(nullable = false)
@@ -86,6 +89,17 @@ public class Event extends BaseEntity {
     @Column(nullable = false)
     private boolean isApprovalRequired;
 
+    // 인원 수는 동시 신청에도 초과되지 않도록 EventRepository.updateGuestCount 로만 반영한다.
+    @Column(nullable = false, updatable = false)
+    private int approvedGuestCount;
+
+    @Column(nullable = false, updatable = false)
+    private int pendingGuestCount;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private Event(
             final String title,
             final String description,
@@ -325,6 +339,7 @@ public class Event extends BaseEntity {
         validateParticipate(guest, participantDateTime);
 
         this.guests.add(guest);
+        increaseGuestCount(guest.getApprovalStatus());
     }
 
     public boolean hasQuestion(final Question question) {
@@ -365,6 +380,17 @@ public class Event extends BaseEntity {
         validateCancelParticipation(cancelParticipateTime);
         Guest guest = getGuestByOrganizationMember(organizationMember);
         guests.remove(guest);
+        decreaseGuestCount(guest.getApprovalStatus());
+    }
+
+    void changeGuestApprovalStatus(final Guest guest, final ApprovalStatus approvalStatus) {
+        decreaseGuestCount(guest.getApprovalStatus());
+        guest.changeApprovalStatus(approvalStatus);
+        increaseGuestCount(approvalStatus);
+    }
+
+    public int getCurrentGuestCount() {
+        return approvedGuestCount + pendingGuestCount;
     }
 
     public boolean isRegistrationEnd(final LocalDateTime currentDateTime) {
@@ -374,13 +400,27 @@ public class Event extends BaseEntity {
     }
 
     public boolean isFull() {
-        long approvedGuestCount = guests.stream()
-                .filter(Guest::isApproved)
-                .count();
-
         return approvedGuestCount >= maxCapacity;
     }
 
+    private void increaseGuestCount(final ApprovalStatus approvalStatus) {
+        if (approvalStatus == ApprovalStatus.APPROVED) {
+            approvedGuestCount++;
+        }
+        if (approvalStatus == ApprovalStatus.PENDING) {
+            pendingGuestCount++;
+        }
+    }
+
+    private void decreaseGuestCount(final ApprovalStatus approvalStatus) {
+        if (approvalStatus == ApprovalStatus.APPROVED) {
+            approvedGuestCount--;
+        }
+        if (approvalStatus == ApprovalStatus.PENDING) {
+            pendingGuestCount--;
+        }
+    }
+
     private void validateEventOrganizersMaxCapacity(final List<OrganizationMember> eventOrganizers) {
         if (eventOrganizers.size() > MAX_EVENT_ORGANIZERS_CAPACITY) {
             throw new UnprocessableEntityException("최대 주최자 수는 10명입니다.");
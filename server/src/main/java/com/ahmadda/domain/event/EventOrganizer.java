@@ -76,13 +76,13 @@ public class EventOrganizer extends BaseEntity {
             throw new UnprocessableEntityException("수용 인원이 가득차 해당 게스트를 승인할 수 없습니다.");
         }
 
-        guest.changeApprovalStatus(ApprovalStatus.APPROVED);
+        event.changeGuestApprovalStatus(guest, ApprovalStatus.APPROVED);
     }
 
     public void reject(final Guest guest) {
         validateChangeGuestApprovalStatus(guest);
 
-        guest.changeApprovalStatus(ApprovalStatus.REJECTED);
+        event.changeGuestApprovalStatus(guest, ApprovalStatus.REJECTED);
     }
 
     private void validateChangeGuestApprovalStatus(final Guest guest) {
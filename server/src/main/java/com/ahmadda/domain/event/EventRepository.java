@@ -2,8 +2,11 @@ package com.ahmadda.domain.event;
 
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.organization.Organization;
+import com.ahmadda.domain.organization.OrganizationMember;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -63,4 +66,87 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                 where m = :member
             """)
     List<Event> findAllParticipatedBy(final Member member);
+
+    @Query("""
+                select e
+                from EventOrganizer eo
+                join eo.event e
+                where eo.organizationMember = :organizationMember
+                  and e.id > :lastEventId
+                order by e.id
+            """)
+    List<Event> findOrganizedEventsWithCursor(
+            final OrganizationMember organizationMember,
+            final Long lastEventId,
+            final Pageable pageable
+    );
+
+    @Query("""
+                select e
+                from Guest g
+                join g.event e
+                where g.organizationMember = :organizationMember
+                  and e.id > :lastEventId
+                order by e.id
+            """)
+    List<Event> findParticipatedEventsWithCursor(
+            final OrganizationMember organizationMember,
+            final Long lastEventId,
+            final Pageable pageable
+    );
+
+    @Query("""
+                select distinct e
+                from Event e
+                join fetch e.eventOrganizers eo
+                join fetch eo.organizationMember
+                where e.id in :eventIds
+                order by e.id
+            """)
+    List<Event> findAllWithOrganizersByIdIn(final List<Long> eventIds);
+
+    @Query("""
+                select new com.ahmadda.domain.event.ActiveEventRow(
+                    e.id,
+                    e.title,
+                    e.description,
+                    e.eventOperationPeriod.eventPeriod.start,
+                    e.eventOperationPeriod.eventPeriod.end,
+                    e.approvedGuestCount,
+                    e.pendingGuestCount,
+                    e.maxCapacity,
+                    e.place,
+                    e.eventOperationPeriod.registrationEventPeriod.start,
+                    e.eventOperationPeriod.registrationEventPeriod.end,
+                    om.nickname,
+                    case when om.member.id = :memberId then true else false end,
+                    case when exists (
+                        select 1
+                        from Guest g
+                        where g.event = e
+                          and g.organizationMember.member.id = :memberId
+                    ) then true else false end
+                )
+                from Event e
+                join e.eventOrganizers eo
+                join eo.organizationMember om
+                where e.organization.id = :organizationId
+                  and e.eventOperationPeriod.eventPeriod.end > :currentDateTime
+                order by e.id, eo.id
+            """)
+    List<ActiveEventRow> findActiveEventRows(
+            final Long organizationId,
+            final LocalDateTime currentDateTime,
+            @Nullable final Long memberId
+    );
+
+    @Modifying
+    @Query("""
+                update Event e
+                set e.approvedGuestCount = e.approvedGuestCount + :approvedDelta,
+                    e.pendingGuestCount = e.pendingGuestCount + :pendingDelta
+                where e.id = :eventId
+                  and (:approvedDelta <= 0 or e.approvedGuestCount + :approvedDelta <= e.maxCapacity)
+            """)
+    int updateGuestCount(final Long eventId, final int approvedDelta, final int pendingDelta);
 }
@@ -56,10 +56,14 @@ public class EventStatistic extends BaseEntity {
     }
 
     public void increaseViewCount(final LocalDate currentDate) {
+        increaseViewCount(currentDate, 1);
+    }
+
+    public void increaseViewCount(final LocalDate currentDate, final int count) {
         eventViewMetrics.stream()
                 .filter((eventViewMetric) -> eventViewMetric.isSameDate(currentDate))
                 .findFirst()
-                .ifPresent(EventViewMetric::increaseViewCount);
+                .ifPresent((eventViewMetric) -> eventViewMetric.increaseViewCount(count));
     }
 
     public List<EventViewMetric> findEventViewMetrics(
@@ -3,7 +3,7 @@ package com.ahmadda.domain.event;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface EventStatisticRepository extends JpaRepository<EventStatistic, Long> {
+public interface EventStatisticRepository extends JpaRepository<EventStatistic, Long>, EventViewCountBatchRepository {
 
     Optional<EventStatistic> findByEventId(Long eventId);
 }
@@ -0,0 +1,11 @@
+package com.ahmadda.domain.event;
+
+import java.time.LocalDate;
+
+public record EventViewCount(
+        Long eventId,
+        LocalDate viewDate,
+        int count
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.ahmadda.domain.event;
+
+import java.util.List;
+
+public interface EventViewCountBatchRepository {
+
+    /**
+     * 이벤트별/일자별로 누적된 조회수를 하나의 JDBC 배치로 반영하고, 해당 일자의 조회수 행이 없으면 만들어서 반영한다.
+     *
+     * @param eventViewCounts 반영할 조회수 증분 목록
+     * @return 반영되지 못한(통계가 없거나 이벤트 기간을 벗어난 일자의) 증분 목록
+     */
+    List<EventViewCount> increaseViewCounts(List<EventViewCount> eventViewCounts);
+}
@@ -0,0 +1,96 @@
+package com.ahmadda.domain.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EventViewCountBatchRepositoryImpl implements EventViewCountBatchRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL = """
+            UPDATE event_view_metric
+            SET view_count = view_count + ?,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE event_statistic_id = (
+                    SELECT es.event_statistic_id
+                    FROM event_statistic es
+                    WHERE es.event_id = ?
+                      AND es.deleted_at IS NULL
+                  )
+              AND view_date = ?
+              AND deleted_at IS NULL
+            """;
+
+    /**
+     * 도메인 규칙과 동일하게 신청 시작일부터 이벤트 종료일 사이의 일자만 생성한다.
+     * 같은 일자의 행이 동시에 생성되는 경우는 (event_statistic_id, view_date) 유니크 키가 막는다.
+     */
+    private static final String INSERT_VIEW_COUNT_SQL = """
+            INSERT INTO event_view_metric (event_statistic_id, view_date, view_count, created_at, updated_at)
+            SELECT es.event_statistic_id, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM event_statistic es
+            JOIN event e ON e.event_id = es.event_id
+            WHERE es.event_id = ?
+              AND es.deleted_at IS NULL
+              AND ? BETWEEN CAST(e.registration_start AS DATE) AND CAST(e.event_end AS DATE)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EventViewCount> increaseViewCounts(final List<EventViewCount> eventViewCounts) {
+        if (eventViewCounts.isEmpty()) {
+            return List.of();
+        }
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(
+                INCREASE_VIEW_COUNT_SQL,
+                eventViewCounts,
+                eventViewCounts.size(),
+                (preparedStatement, eventViewCount) -> {
+                    preparedStatement.setInt(1, eventViewCount.count());
+                    preparedStatement.setLong(2, eventViewCount.eventId());
+                    preparedStatement.setDate(3, Date.valueOf(eventViewCount.viewDate()));
+                }
+        )[0];
+
+        List<EventViewCount> missedEventViewCounts = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            EventViewCount eventViewCount = eventViewCounts.get(i);
+            if (updatedRows[i] == 0 && !upsertViewCount(eventViewCount)) {
+                missedEventViewCounts.add(eventViewCount);
+            }
+        }
+
+        return missedEventViewCounts;
+    }
+
+    /**
+     * 해당 일자의 조회수 행을 만들고, 그 사이 다른 트랜잭션이 먼저 만들었다면 만들어진 행의 조회수를 늘린다.
+     * 중복 키 오류는 해당 문장만 실패시키므로 호출한 트랜잭션은 그대로 이어진다.
+     * 그 밖의 잠금 충돌로 트랜잭션이 실패하면 EventViewCountFlushScheduler 가 증분을 버퍼로 되돌려 다음 주기에 다시 반영한다.
+     */
+    private boolean upsertViewCount(final EventViewCount eventViewCount) {
+        Date viewDate = Date.valueOf(eventViewCount.viewDate());
+        try {
+            return jdbcTemplate.update(
+                    INSERT_VIEW_COUNT_SQL,
+                    viewDate,
+                    eventViewCount.count(),
+                    eventViewCount.eventId(),
+                    viewDate
+            ) > 0;
+        } catch (DuplicateKeyException e) {
+            return jdbcTemplate.update(
+                    INCREASE_VIEW_COUNT_SQL,
+                    eventViewCount.count(),
+                    eventViewCount.eventId(),
+                    viewDate
+            ) > 0;
+        }
+    }
+}
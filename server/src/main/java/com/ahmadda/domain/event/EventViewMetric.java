@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +21,10 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE event_view_metric SET deleted_at = CURRENT_TIMESTAMP WHERE event_view_metric_id = ?")
 @SQLRestriction("deleted_at IS NULL")
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_event_view_metric__statistic__view_date",
+        columnNames = {"event_statistic_id", "view_date"}
+))
 public class EventViewMetric extends BaseEntity {
 
     @Id
@@ -45,6 +51,10 @@ public class EventViewMetric extends BaseEntity {
         viewCount++;
     }
 
+    public void increaseViewCount(final int count) {
+        viewCount += count;
+    }
+
     public boolean isAfter(final LocalDate currentDate) {
         return viewDate.isAfter(currentDate);
     }
@@ -1,7 +1,7 @@
 package com.ahmadda.domain.event;
 
 import com.ahmadda.common.exception.UnprocessableEntityException;
-import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
+import com.ahmadda.domain.notification.OptedOutMemberIds;
 import com.ahmadda.domain.organization.OrganizationMember;
 import lombok.Getter;
 
@@ -24,14 +24,16 @@ public class GuestWithOptStatus {
         return new GuestWithOptStatus(guest, optedOut);
     }
 
-    public static GuestWithOptStatus createWithOptOutStatus(
-            final Guest guest,
-            final EventNotificationOptOutRepository optOutRepository
+    public static List<GuestWithOptStatus> createWithOptOutStatus(
+            final List<Guest> guests,
+            final OptedOutMemberIds optedOutMemberIds
     ) {
-        boolean optedOut =
-                optOutRepository.existsByEventAndOrganizationMember(guest.getEvent(), guest.getOrganizationMember());
-
-        return new GuestWithOptStatus(guest, optedOut);
+        return guests.stream()
+                .map(guest -> new GuestWithOptStatus(
+                        guest,
+                        optedOutMemberIds.contains(guest.getOrganizationMember())
+                ))
+                .toList();
     }
 
     public static List<OrganizationMember> extractOptInOrganizationMembers(final List<GuestWithOptStatus> guestsWithOptOut) {
@@ -6,8 +6,6 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public record EventEmailPayload(
@@ -51,26 +49,23 @@ public record EventEmailPayload(
     }
 
     public String renderBody(final TemplateEngine templateEngine, final String redirectUrlPrefix) {
-        Context context = new Context();
-        context.setVariables(createModel(redirectUrlPrefix));
-
-        return templateEngine.process("mail/event-notification", context);
+        return templateEngine.process("mail/event-notification", createContext(redirectUrlPrefix));
     }
 
-    private Map<String, Object> createModel(final String redirectUrlPrefix) {
-        Map<String, Object> model = new HashMap<>();
-        model.put("organizationName", body.organizationName());
-        model.put("content", body.content());
-        model.put("title", body.title());
-        model.put("organizerNickname", body.organizerNickname());
-        model.put("place", body.place());
-        model.put("registrationStart", body.registrationStart());
-        model.put("registrationEnd", body.registrationEnd());
-        model.put("eventStart", body.eventStart());
-        model.put("eventEnd", body.eventEnd());
-        model.put("redirectUrl", redirectUrlPrefix + body.organizationId() + "/event/" + body.eventId());
-
-        return model;
+    private Context createContext(final String redirectUrlPrefix) {
+        Context context = new Context();
+        context.setVariable("organizationName", body.organizationName());
+        context.setVariable("content", body.content());
+        context.setVariable("title", body.title());
+        context.setVariable("organizerNickname", body.organizerNickname());
+        context.setVariable("place", body.place());
+        context.setVariable("registrationStart", body.registrationStart());
+        context.setVariable("registrationEnd", body.registrationEnd());
+        context.setVariable("eventStart", body.eventStart());
+        context.setVariable("eventEnd", body.eventEnd());
+        context.setVariable("redirectUrl", redirectUrlPrefix + body.organizationId() + "/event/" + body.eventId());
+
+        return context;
     }
 
     public record Subject(
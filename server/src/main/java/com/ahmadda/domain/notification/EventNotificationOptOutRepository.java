@@ -3,7 +3,9 @@ package com.ahmadda.domain.notification;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.organization.OrganizationMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface EventNotificationOptOutRepository extends JpaRepository<EventNotificationOptOut, Long> {
@@ -14,4 +16,15 @@ public interface EventNotificationOptOutRepository extends JpaRepository<EventNo
             final Event event,
             final OrganizationMember organizationMember
     );
+
+    @Query("""
+                select o.organizationMember.id
+                from EventNotificationOptOut o
+                where o.event.id = :eventId
+            """)
+    List<Long> findOptedOutOrganizationMemberIds(final Long eventId);
+
+    default OptedOutMemberIds findOptedOutMemberIds(final Long eventId) {
+        return OptedOutMemberIds.from(findOptedOutOrganizationMemberIds(eventId));
+    }
 }
@@ -0,0 +1,56 @@
+package com.ahmadda.domain.notification;
+
+import com.ahmadda.domain.organization.OrganizationMember;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 이벤트에 대해 알림 수신을 거부한 구성원 ID 집합.
+ * <p>
+ * 수신자 수만큼 박싱된 {@code Long}을 만들지 않도록 정렬된 {@code long[]}에 담고 이진 탐색으로 포함 여부를 확인한다.
+ */
+public final class OptedOutMemberIds {
+
+    private static final OptedOutMemberIds EMPTY = new OptedOutMemberIds(new long[0]);
+
+    private final long[] organizationMemberIds;
+
+    private OptedOutMemberIds(final long[] organizationMemberIds) {
+        this.organizationMemberIds = organizationMemberIds;
+    }
+
+    public static OptedOutMemberIds empty() {
+        return EMPTY;
+    }
+
+    public static OptedOutMemberIds from(final Collection<Long> organizationMemberIds) {
+        if (organizationMemberIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sortedIds = organizationMemberIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        return new OptedOutMemberIds(sortedIds);
+    }
+
+    public boolean contains(final long organizationMemberId) {
+        return Arrays.binarySearch(organizationMemberIds, organizationMemberId) >= 0;
+    }
+
+    public boolean contains(final OrganizationMember organizationMember) {
+        return contains(organizationMember.getId());
+    }
+
+    public int size() {
+        return organizationMemberIds.length;
+    }
+
+    public boolean isEmpty() {
+        return organizationMemberIds.length == 0;
+    }
+}
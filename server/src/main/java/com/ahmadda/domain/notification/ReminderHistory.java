@@ -3,7 +3,6 @@ package com.ahmadda.domain.notification;
 import com.ahmadda.domain.BaseEntity;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.organization.OrganizationMember;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -45,8 +44,9 @@ public class ReminderHistory extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime sentAt;
 
-    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "reminder_history_id", nullable = false)
+    // 수신자는 ReminderHistoryRepository.saveWithRecipients 로만 JDBC 배치 저장되며, save 는 수신자가 있는 새 히스토리를 거부한다.
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reminder_history_id", nullable = false, insertable = false, updatable = false)
     private final List<ReminderRecipient> recipients = new ArrayList<>();
 
     private ReminderHistory(
@@ -0,0 +1,22 @@
+package com.ahmadda.domain.notification;
+
+public interface ReminderHistoryBatchRepository {
+
+    /**
+     * 리마인드 히스토리를 저장한다. 저장되지 않은 수신자를 가진 새 히스토리는 거부한다.
+     * 수신자가 있는 히스토리는 {@link #saveWithRecipients(ReminderHistory)}로 저장해야 한다.
+     *
+     * @param reminderHistory 저장할 리마인드 히스토리
+     * @return 저장된 리마인드 히스토리
+     * @throws IllegalStateException 새 히스토리에 수신자가 있는 경우
+     */
+    <S extends ReminderHistory> S save(S reminderHistory);
+
+    /**
+     * 새 리마인드 히스토리를 저장하고, 수신자를 하나의 JDBC 배치로 저장한다.
+     *
+     * @param reminderHistory 저장할 새 리마인드 히스토리
+     * @return 저장된 리마인드 히스토리
+     */
+    ReminderHistory saveWithRecipients(ReminderHistory reminderHistory);
+}
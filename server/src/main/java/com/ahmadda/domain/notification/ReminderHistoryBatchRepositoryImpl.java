@@ -0,0 +1,74 @@
+package com.ahmadda.domain.notification;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReminderHistoryBatchRepositoryImpl implements ReminderHistoryBatchRepository {
+
+    private static final String INSERT_RECIPIENT_SQL = """
+            INSERT INTO reminder_recipient (reminder_history_id, organization_member_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public <S extends ReminderHistory> S save(final S reminderHistory) {
+        if (reminderHistory.getId() != null) {
+            return entityManager.merge(reminderHistory);
+        }
+        if (!reminderHistory.getRecipients()
+                .isEmpty()) {
+            throw new IllegalStateException("수신자가 있는 리마인드 히스토리는 saveWithRecipients로 저장해야 합니다.");
+        }
+
+        entityManager.persist(reminderHistory);
+        return reminderHistory;
+    }
+
+    @Override
+    @Transactional
+    public ReminderHistory saveWithRecipients(final ReminderHistory reminderHistory) {
+        if (reminderHistory.getId() != null) {
+            throw new IllegalStateException("이미 저장된 리마인드 히스토리에는 수신자를 추가로 저장할 수 없습니다.");
+        }
+
+        entityManager.persist(reminderHistory);
+        insertRecipients(reminderHistory);
+        return reminderHistory;
+    }
+
+    private void insertRecipients(final ReminderHistory reminderHistory) {
+        List<ReminderRecipient> recipients = reminderHistory.getRecipients();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        Long reminderHistoryId = reminderHistory.getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_RECIPIENT_SQL,
+                recipients,
+                recipients.size(),
+                (preparedStatement, recipient) -> {
+                    preparedStatement.setLong(1, reminderHistoryId);
+                    preparedStatement.setLong(
+                            2,
+                            recipient.getOrganizationMember()
+                                    .getId()
+                    );
+                    preparedStatement.setTimestamp(3, now);
+                    preparedStatement.setTimestamp(4, now);
+                }
+        );
+    }
+}
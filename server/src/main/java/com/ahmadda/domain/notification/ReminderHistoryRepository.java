@@ -5,7 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface ReminderHistoryRepository extends JpaRepository<ReminderHistory, Long> {
+public interface ReminderHistoryRepository
+        extends JpaRepository<ReminderHistory, Long>, ReminderHistoryBatchRepository {
 
     List<ReminderHistory> findByEventId(final Long eventId);
 
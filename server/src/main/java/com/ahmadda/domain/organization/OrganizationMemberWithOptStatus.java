@@ -3,6 +3,7 @@ package com.ahmadda.domain.organization;
 import com.ahmadda.common.exception.UnprocessableEntityException;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
+import com.ahmadda.domain.notification.OptedOutMemberIds;
 import lombok.Getter;
 
 import java.util.List;
@@ -42,6 +43,20 @@ public class OrganizationMemberWithOptStatus {
         return new OrganizationMemberWithOptStatus(organizationMember, optedOut, event);
     }
 
+    public static List<OrganizationMemberWithOptStatus> createWithOptOutStatus(
+            final List<OrganizationMember> organizationMembers,
+            final Event event,
+            final OptedOutMemberIds optedOutMemberIds
+    ) {
+        return organizationMembers.stream()
+                .map(organizationMember -> new OrganizationMemberWithOptStatus(
+                        organizationMember,
+                        optedOutMemberIds.contains(organizationMember),
+                        event
+                ))
+                .toList();
+    }
+
     public static List<OrganizationMember> extractOptInOrganizationMembers(final List<OrganizationMemberWithOptStatus> organizationMembersWithOptOuts) {
         return organizationMembersWithOptOuts.stream()
                 .filter(organizationMemberWithOptOut -> !organizationMemberWithOptOut.isOptedOut())
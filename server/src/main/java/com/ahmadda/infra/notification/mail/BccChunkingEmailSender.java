@@ -1,22 +1,71 @@
 package com.ahmadda.infra.notification.mail;
 
-import lombok.RequiredArgsConstructor;
-
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
-@RequiredArgsConstructor
+/**
+ * 수신자를 BCC 허용 인원 단위로 나누어 발송한다.
+ * <p>
+ * 청크가 여러 개면 chunkExecutor 에서 동시에 발송하고, 모든 청크가 끝날 때까지 기다린 뒤
+ * 실패한 청크가 있으면 그 예외를 그대로 던져 상위의 재시도와 장애 전환이 동작하도록 한다.
+ */
 public class BccChunkingEmailSender implements EmailSender {
 
     private final EmailSender delegate;
     private final int maxBcc;
+    private final Executor chunkExecutor;
+
+    public BccChunkingEmailSender(final EmailSender delegate, final int maxBcc) {
+        this(delegate, maxBcc, Runnable::run);
+    }
+
+    public BccChunkingEmailSender(final EmailSender delegate, final int maxBcc, final Executor chunkExecutor) {
+        this.delegate = delegate;
+        this.maxBcc = maxBcc;
+        this.chunkExecutor = chunkExecutor;
+    }
 
     @Override
-    public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
+        if (recipientEmails.isEmpty()) {
+            return;
+        }
+        if (recipientEmails.size() <= maxBcc) {
+            delegate.sendEmails(emailOutboxId, recipientEmails, subject, body);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         for (int i = 0; i < recipientEmails.size(); i += maxBcc) {
             int end = Math.min(i + maxBcc, recipientEmails.size());
             List<String> chunk = recipientEmails.subList(i, end);
 
-            delegate.sendEmails(chunk, subject, body);
+            futures.add(CompletableFuture.runAsync(
+                    () -> delegate.sendEmails(emailOutboxId, chunk, subject, body),
+                    chunkExecutor
+            ));
+        }
+
+        awaitAll(futures);
+    }
+
+    private void awaitAll(final List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
         }
     }
 }
@@ -0,0 +1,89 @@
+package com.ahmadda.infra.notification.mail;
+
+import com.ahmadda.common.logging.AsyncTraceLoggingDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 직후의 메일 발송만 전담하는 실행기.
+ * <p>
+ * 동시에 발송하는 작업 수는 maxConcurrency 개의 전용 스레드로 제한한다. SMTPTransport 는 소켓 입출력을 synchronized 안에서
+ * 수행해 가상 스레드가 캐리어 스레드에 고정되고, 동시 발송 수도 SMTP 연결 수만큼으로 제한되므로 가상 스레드의 이점이 없다.
+ * 대기 중인 작업이 queueCapacity 를 넘으면 작업을 버리지 않고 받지 않았다고 알려서,
+ * 호출한 쪽이 아웃박스 스케줄러의 재발송으로 미룰 수 있게 한다.
+ */
+public class EmailDeliveryExecutor implements AutoCloseable {
+
+    private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+    private final Timer latencyTimer;
+
+    public EmailDeliveryExecutor(final int maxConcurrency, final int queueCapacity, final MeterRegistry meterRegistry) {
+        executor.setThreadNamePrefix("email-delivery-");
+        executor.setTaskDecorator(new AsyncTraceLoggingDecorator());
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        executor.initialize();
+
+        this.rejectedCounter = Counter.builder("email.delivery.rejected")
+                .description("대기열이 가득 차 아웃박스 재발송으로 미룬 메일 발송 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("email.delivery.queue.wait")
+                .description("메일 발송 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("email.delivery.latency")
+                .description("메일 발송 작업을 받은 뒤 발송이 끝나기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("email.delivery.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("발송을 기다리는 메일 발송 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("email.delivery.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("발송 중인 메일 발송 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 받으면 true 를, 대기열이 가득 찼거나 종료 중이라 받지 않으면 false 를 돌려준다.
+     */
+    public boolean tryExecute(final Runnable task) {
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(task, submittedAt));
+            return true;
+        } catch (TaskRejectedException ex) {
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    private void run(final Runnable task, final long submittedAt) {
+        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+            task.run();
+        } finally {
+            latencyTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 새 작업을 받지 않고, 이미 받은 작업이 모두 끝날 때까지 기다린다.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -1,8 +1,20 @@
 package com.ahmadda.infra.notification.mail;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.List;
 
+/**
+ * 아웃박스에 저장된 메일을 실제로 발송하는 체인이다.
+ * 발송에 성공한 수신자를 아웃박스에서 바로 지울 수 있도록 아웃박스 식별자를 함께 전달하며,
+ * 아웃박스를 거치지 않는 메일(헬스 체크 등)은 {@code null}을 전달한다.
+ */
 public interface EmailSender {
 
-    void sendEmails(final List<String> recipientEmails, final String subject, final String body);
+    void sendEmails(
+            @Nullable final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    );
 }
@@ -3,7 +3,6 @@ package com.ahmadda.infra.notification.mail;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 
 import java.util.List;
 
@@ -15,13 +14,18 @@ public class FailoverEmailSender implements EmailSender {
     private final EmailSender secondaryEmailSender;
 
     @Override
-    @Async
     @CircuitBreaker(name = "primaryEmail", fallbackMethod = "sendEmailsWithSecondary")
-    public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
-        primaryEmailSender.sendEmails(recipientEmails, subject, body);
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
+        primaryEmailSender.sendEmails(emailOutboxId, recipientEmails, subject, body);
     }
 
     public void sendEmailsWithSecondary(
+            final Long emailOutboxId,
             final List<String> recipientEmails,
             final String subject,
             final String body,
@@ -33,6 +37,6 @@ public class FailoverEmailSender implements EmailSender {
                 cause.getMessage(),
                 cause
         );
-        secondaryEmailSender.sendEmails(recipientEmails, subject, body);
+        secondaryEmailSender.sendEmails(emailOutboxId, recipientEmails, subject, body);
     }
 }
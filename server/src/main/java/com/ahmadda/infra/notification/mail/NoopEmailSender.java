@@ -8,7 +8,12 @@ import java.util.List;
 public class NoopEmailSender implements EmailSender {
 
     @Override
-    public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
         log.info("[Noop Email] recipientEmails: {}, subject: {}, body: {}", recipientEmails, subject, body);
     }
 }
@@ -1,10 +1,13 @@
 package com.ahmadda.infra.notification.mail;
 
 import com.ahmadda.infra.notification.mail.outbox.EmailOutbox;
-import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRecipient;
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxContentStore;
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxFailureHandler;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRecipientRepository;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -12,32 +15,94 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import java.util.List;
 
-@RequiredArgsConstructor
-public class OutboxEmailSender implements EmailSender {
+@Slf4j
+public class OutboxEmailSender {
 
     private final EmailOutboxRepository emailOutboxRepository;
     private final EmailOutboxRecipientRepository emailOutboxRecipientRepository;
+    private final EmailOutboxContentStore emailOutboxContentStore;
+    private final EmailOutboxFailureHandler emailOutboxFailureHandler;
     private final EmailSender delegate;
+    private final EmailDeliveryExecutor emailDeliveryExecutor;
+    private final Timer persistTimer;
+
+    public OutboxEmailSender(
+            final EmailOutboxRepository emailOutboxRepository,
+            final EmailOutboxRecipientRepository emailOutboxRecipientRepository,
+            final EmailOutboxContentStore emailOutboxContentStore,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler,
+            final EmailSender delegate,
+            final EmailDeliveryExecutor emailDeliveryExecutor,
+            final MeterRegistry meterRegistry
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxRecipientRepository = emailOutboxRecipientRepository;
+        this.emailOutboxContentStore = emailOutboxContentStore;
+        this.emailOutboxFailureHandler = emailOutboxFailureHandler;
+        this.delegate = delegate;
+        this.emailDeliveryExecutor = emailDeliveryExecutor;
+        this.persistTimer = Timer.builder("email.outbox.persist")
+                .description("호출자 트랜잭션 안에서 아웃박스와 수신자를 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
 
-    @Override
     @Transactional(propagation = Propagation.MANDATORY)
     public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
-        EmailOutbox outbox = EmailOutbox.createNow(subject, body);
-        List<EmailOutboxRecipient> recipients = recipientEmails.stream()
-                .map(email -> EmailOutboxRecipient.create(outbox, email))
-                .toList();
-        emailOutboxRepository.save(outbox);
-        emailOutboxRecipientRepository.saveAll(recipients);
-
-        registerAfterCommitSend(recipientEmails, subject, body);
+        Long emailOutboxId = persistTimer.record(() -> saveOutbox(recipientEmails, subject, body));
+
+        registerAfterCommitSend(emailOutboxId, recipientEmails, subject, body);
+    }
+
+    private Long saveOutbox(final List<String> recipientEmails, final String subject, final String body) {
+        EmailOutbox outbox = emailOutboxRepository.save(
+                EmailOutbox.createNow(emailOutboxContentStore.acquire(subject, body))
+        );
+        emailOutboxRecipientRepository.insertRecipients(outbox.getId(), recipientEmails);
+
+        return outbox.getId();
     }
 
-    private void registerAfterCommitSend(final List<String> recipientEmails, final String subject, final String body) {
+    private void registerAfterCommitSend(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                delegate.sendEmails(recipientEmails, subject, body);
+                boolean accepted = emailDeliveryExecutor.tryExecute(
+                        () -> send(emailOutboxId, recipientEmails, subject, body)
+                );
+                if (!accepted) {
+                    // 아웃박스는 이미 커밋되었으므로 다음 시도 일시가 지나면 스케줄러가 발송한다.
+                    log.warn(
+                            "emailDeliveryDeferred - emailOutboxId: {}, recipientCount: {}",
+                            emailOutboxId,
+                            recipientEmails.size()
+                    );
+                }
             }
         });
     }
+
+    private void send(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
+        try {
+            delegate.sendEmails(emailOutboxId, recipientEmails, subject, body);
+        } catch (RuntimeException ex) {
+            // 남은 수신자는 아웃박스의 다음 시도 일시가 지나면 스케줄러가 재발송한다.
+            emailOutboxFailureHandler.handleFailure(emailOutboxId, ex);
+            log.warn(
+                    "emailOutboxSendFailed - emailOutboxId: {}, cause: {}",
+                    emailOutboxId,
+                    ex.getMessage(),
+                    ex
+            );
+        }
+    }
 }
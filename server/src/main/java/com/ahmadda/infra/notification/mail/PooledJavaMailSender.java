@@ -0,0 +1,188 @@
+package com.ahmadda.infra.notification.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증까지 마친 SMTP 연결을 최대 poolSize 개까지 열어 두고 여러 메일 발송에 재사용한다.
+ * <p>
+ * {@link JavaMailSenderImpl}은 발송할 때마다 연결, STARTTLS, 인증을 새로 수행하므로
+ * 연결을 맺는 부분만 풀에서 빌려 오도록 바꾸고, 메시지 생성과 세션 설정은 그대로 사용한다.
+ * 끊어진 연결은 빌려 줄 때 확인해 새 연결로 교체하고, 애플리케이션이 종료되면 풀에 남은 연결을 모두 닫는다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final String provider;
+    private final Duration borrowTimeout;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<Transport> idleTransports = new ConcurrentLinkedQueue<>();
+    private final Timer sendTimer;
+    private final Counter openedCounter;
+    private final Counter reconnectedCounter;
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(
+            final String provider,
+            final int poolSize,
+            final Duration borrowTimeout,
+            final MeterRegistry meterRegistry
+    ) {
+        this.provider = provider;
+        this.borrowTimeout = borrowTimeout;
+        this.permits = new Semaphore(poolSize);
+        this.sendTimer = Timer.builder("email.smtp.send")
+                .description("풀에서 빌린 SMTP 연결로 메일 한 통을 전송하는 데 걸린 시간")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.openedCounter = Counter.builder("email.smtp.connection.opened")
+                .description("새로 연결하고 인증한 SMTP 연결 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.reconnectedCounter = Counter.builder("email.smtp.connection.reconnected")
+                .description("끊어진 연결을 대신해 다시 연결한 SMTP 연결 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connection.in-use", permits, available -> poolSize - available.availablePermits())
+                .description("메일 전송에 사용 중인 SMTP 연결 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doSend(final MimeMessage[] mimeMessages, @Nullable final Object[] originalMessages)
+            throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (int i = 0; i < mimeMessages.length; i++) {
+            Object originalMessage = (originalMessages != null ? originalMessages[i] : mimeMessages[i]);
+            try {
+                send(mimeMessages[i]);
+            } catch (MessagingException ex) {
+                failedMessages.put(originalMessage, ex);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private void send(final MimeMessage mimeMessage) throws MessagingException {
+        acquirePermit();
+        Transport transport = null;
+        try {
+            transport = borrowTransport();
+            prepare(mimeMessage);
+            Address[] addresses = mimeMessage.getAllRecipients();
+
+            Timer.Sample sample = Timer.start();
+            transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+            sample.stop(sendTimer);
+
+            returnTransport(transport);
+        } catch (MessagingException | RuntimeException ex) {
+            // 실패한 연결은 상태를 알 수 없으므로 풀에 되돌리지 않고 닫는다.
+            if (transport != null) {
+                closeQuietly(transport);
+            }
+            throw ex;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("SMTP 연결을 얻지 못했습니다. provider: " + provider);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new MailSendException("SMTP 연결을 기다리는 중 중단되었습니다. provider: " + provider, ex);
+        }
+    }
+
+    private Transport borrowTransport() throws MessagingException {
+        Transport transport = idleTransports.poll();
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+
+        if (transport != null) {
+            closeQuietly(transport);
+            reconnectedCounter.increment();
+        }
+
+        Transport connected = connectTransport();
+        openedCounter.increment();
+
+        return connected;
+    }
+
+    private void returnTransport(final Transport transport) {
+        idleTransports.offer(transport);
+        // 종료 중에 발송을 마친 연결은 이미 풀을 비운 뒤에 돌아올 수 있으므로 다시 비운다.
+        if (closed) {
+            closeIdleTransports();
+        }
+    }
+
+    /**
+     * 풀에 남아 있는 연결을 모두 닫는다. 종료 시점에 발송 중이던 연결은 발송을 마치고 돌아올 때 닫는다.
+     */
+    @Override
+    public void destroy() {
+        closed = true;
+        closeIdleTransports();
+    }
+
+    private void closeIdleTransports() {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            closeQuietly(transport);
+        }
+    }
+
+    private void prepare(final MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+    }
+
+    private void closeQuietly(final Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException ex) {
+            log.debug("smtpCloseError - provider: {}, cause: {}", provider, ex.getMessage());
+        }
+    }
+}
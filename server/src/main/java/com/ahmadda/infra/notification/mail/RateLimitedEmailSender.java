@@ -0,0 +1,157 @@
+package com.ahmadda.infra.notification.mail;
+
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxFailureHandler;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SMTP 제공자의 초당 발송 한도를 넘지 않도록 메일 수와 수신자 수를 토큰 버킷으로 조절한다.
+ * <p>
+ * 한도를 넘는 발송은 실패시키지 않고 토큰이 채워질 때까지 기다린다. 최대 대기 시간 안에 토큰을 얻지 못하면
+ * 발송하지 않고 돌아가며, 수신자가 아웃박스에 그대로 남아 있으므로 아웃박스 스케줄러가 나중에 다시 보낸다.
+ * 장애 전환(FailoverEmailSender)이 동작하지 않도록 이 경우에는 예외를 던지지 않고,
+ * 한도 때문에 미룬 발송이 최대 시도 횟수를 소진하지 않도록 EmailOutboxFailureHandler 에 미룬 시도로 기록한다.
+ */
+@Slf4j
+public class RateLimitedEmailSender implements EmailSender {
+
+    private final EmailSender delegate;
+    private final EmailOutboxFailureHandler emailOutboxFailureHandler;
+    private final String provider;
+    private final Bucket messageBucket;
+    private final Bucket recipientBucket;
+    private final Duration maxWait;
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter sentRecipientCounter;
+    private final Counter deferredCounter;
+
+    public RateLimitedEmailSender(
+            final EmailSender delegate,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler,
+            final String provider,
+            final int messagesPerSecond,
+            final int recipientsPerSecond,
+            final int maxRecipientsPerMessage,
+            final Duration maxWait,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.emailOutboxFailureHandler = emailOutboxFailureHandler;
+        this.provider = provider;
+        this.maxWait = maxWait;
+        this.messageBucket = Bucket.builder()
+                .addLimit(limit -> limit
+                        .capacity(messagesPerSecond)
+                        .refillGreedy(messagesPerSecond, Duration.ofSeconds(1))
+                )
+                .build();
+        // 한 번에 보내는 BCC 청크가 버킷 용량보다 크면 영원히 토큰을 얻지 못하므로 용량은 청크 크기 이상으로 둔다.
+        this.recipientBucket = Bucket.builder()
+                .addLimit(limit -> limit
+                        .capacity(Math.max(recipientsPerSecond, maxRecipientsPerMessage))
+                        .refillGreedy(recipientsPerSecond, Duration.ofSeconds(1))
+                )
+                .build();
+
+        this.waitTimer = Timer.builder("email.rate.limit.wait")
+                .description("발송 한도 토큰을 얻기까지 기다린 시간")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.sentRecipientCounter = Counter.builder("email.rate.limit.recipients")
+                .description("발송 한도를 통과한 수신자 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("email.rate.limit.deferred")
+                .description("발송 한도로 아웃박스 재발송으로 미룬 메일 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("email.rate.limit.waiting", waitingCount, AtomicInteger::get)
+                .description("발송 한도 토큰을 기다리는 메일 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
+        if (recipientEmails.isEmpty()) {
+            return;
+        }
+
+        if (!acquire(recipientEmails.size())) {
+            defer(emailOutboxId, recipientEmails);
+            return;
+        }
+
+        sentRecipientCounter.increment(recipientEmails.size());
+        delegate.sendEmails(emailOutboxId, recipientEmails, subject, body);
+    }
+
+    private boolean acquire(final int recipientCount) {
+        waitingCount.incrementAndGet();
+        Timer.Sample sample = Timer.start();
+        boolean messageAcquired = false;
+        try {
+            messageAcquired = messageBucket.asBlocking()
+                    .tryConsume(1, maxWait);
+            if (messageAcquired && recipientBucket.asBlocking()
+                    .tryConsume(recipientCount, maxWait)) {
+                return true;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread()
+                    .interrupt();
+        } finally {
+            sample.stop(waitTimer);
+            waitingCount.decrementAndGet();
+        }
+
+        // 두 버킷을 한 번에 소비할 수 없으므로, 수신자 토큰을 얻지 못해 보내지 않은 메일의 토큰은 돌려준다.
+        if (messageAcquired) {
+            messageBucket.addTokens(1);
+        }
+        return false;
+    }
+
+    private void defer(final Long emailOutboxId, final List<String> recipientEmails) {
+        deferredCounter.increment();
+        if (emailOutboxId == null) {
+            throw new MailSendException("발송 한도를 초과했습니다. provider: " + provider);
+        }
+
+        log.warn(
+                "mailRateLimitDeferred - provider: {}, emailOutboxId: {}, recipientCount: {}",
+                provider,
+                emailOutboxId,
+                recipientEmails.size()
+        );
+        try {
+            emailOutboxFailureHandler.handleDeferral(
+                    emailOutboxId,
+                    "발송 한도를 초과해 발송을 미뤘습니다. provider: " + provider
+            );
+        } catch (RuntimeException ex) {
+            // 미룬 기록을 남기지 못해도 수신자는 아웃박스에 남아 있으므로 다른 제공자로 장애 전환하지 않는다.
+            log.warn(
+                    "mailRateLimitDeferralNotRecorded - emailOutboxId: {}, cause: {}",
+                    emailOutboxId,
+                    ex.getMessage(),
+                    ex
+            );
+        }
+    }
+}
@@ -35,10 +35,15 @@ public class RetryableEmailSender implements EmailSender {
     }
 
     @Override
-    public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
         Runnable runnable = Retry.decorateRunnable(
                 retry,
-                () -> delegate.sendEmails(recipientEmails, subject, body)
+                () -> delegate.sendEmails(emailOutboxId, recipientEmails, subject, body)
         );
 
         try {
@@ -18,14 +18,21 @@ public class SmtpEmailSender implements EmailSender {
     private final EmailOutboxSuccessHandler emailOutboxSuccessHandler;
 
     @Override
-    public void sendEmails(final List<String> recipientEmails, final String subject, final String body) {
+    public void sendEmails(
+            final Long emailOutboxId,
+            final List<String> recipientEmails,
+            final String subject,
+            final String body
+    ) {
         if (recipientEmails.isEmpty()) {
             return;
         }
 
         MimeMessage mimeMessage = createMimeMessageWithBcc(recipientEmails, subject, body);
         javaMailSender.send(mimeMessage);
-        handleSuccess(recipientEmails, subject, body);
+        if (emailOutboxId != null) {
+            emailOutboxSuccessHandler.handleSuccess(emailOutboxId, recipientEmails);
+        }
     }
 
     private MimeMessage createMimeMessageWithBcc(
@@ -47,10 +54,4 @@ public class SmtpEmailSender implements EmailSender {
 
         return mimeMessage;
     }
-
-    private void handleSuccess(final List<String> recipientEmails, final String subject, final String body) {
-        for (String recipientEmail : recipientEmails) {
-            emailOutboxSuccessHandler.handleSuccess(recipientEmail, subject, body);
-        }
-    }
 }
@@ -2,38 +2,25 @@ package com.ahmadda.infra.notification.mail.adapter;
 
 import com.ahmadda.domain.notification.EmailNotifier;
 import com.ahmadda.domain.notification.ReminderEmail;
-import com.ahmadda.infra.notification.config.NotificationProperties;
-import com.ahmadda.infra.notification.mail.EmailSender;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.ahmadda.infra.notification.mail.OutboxEmailSender;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.TemplateEngine;
 
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class EmailNotifierAdapter implements EmailNotifier {
 
-    private final EmailSender emailSender;
-    private final TemplateEngine templateEngine;
-    private final NotificationProperties notificationProperties;
-
-    public EmailNotifierAdapter(
-            @Qualifier("outboxEmailSender") final EmailSender emailSender,
-            final TemplateEngine templateEngine,
-            final NotificationProperties notificationProperties
-    ) {
-        this.emailSender = emailSender;
-        this.templateEngine = templateEngine;
-        this.notificationProperties = notificationProperties;
-    }
+    private final OutboxEmailSender emailSender;
+    private final EventEmailBodyCache eventEmailBodyCache;
 
     @Override
     public void remind(final ReminderEmail reminderEmail) {
         List<String> recipientEmails = reminderEmail.recipientEmails();
         String subject = reminderEmail.payload()
                 .renderSubject();
-        String body = reminderEmail.payload()
-                .renderBody(templateEngine, notificationProperties.getRedirectUrlPrefix());
+        String body = eventEmailBodyCache.render(reminderEmail.payload());
 
         emailSender.sendEmails(recipientEmails, subject, body);
     }
@@ -0,0 +1,50 @@
+package com.ahmadda.infra.notification.mail.adapter;
+
+import com.ahmadda.domain.notification.EventEmailPayload;
+import com.ahmadda.infra.notification.config.NotificationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+
+import java.time.Duration;
+
+/**
+ * 렌더링된 이벤트 알림 메일 본문을 보관하는 로컬 캐시.
+ * <p>
+ * 스케줄러는 같은 이벤트에 같은 내용의 리마인더를 짧은 시간에 여러 번 보내므로, 본문 렌더링에 쓰이는 값 전체({@link EventEmailPayload.Body})를
+ * 키로 삼아 한 번 렌더링한 결과를 재사용한다. 이벤트나 이벤트 스페이스 정보가 바뀌면 키가 달라지므로 별도의 무효화가 필요 없다.
+ */
+@Component
+public class EventEmailBodyCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final TemplateEngine templateEngine;
+    private final NotificationProperties notificationProperties;
+    private final Cache<EventEmailPayload.Body, String> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    public EventEmailBodyCache(
+            final TemplateEngine templateEngine,
+            final NotificationProperties notificationProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.templateEngine = templateEngine;
+        this.notificationProperties = notificationProperties;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventEmailBody");
+    }
+
+    public String render(final EventEmailPayload payload) {
+        return cache.get(
+                payload.body(),
+                body -> payload.renderBody(templateEngine, notificationProperties.getRedirectUrlPrefix())
+        );
+    }
+}
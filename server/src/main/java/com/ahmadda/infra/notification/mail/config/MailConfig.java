@@ -1,72 +1,189 @@
 package com.ahmadda.infra.notification.mail.config;
 
+import com.ahmadda.common.logging.AsyncTraceLoggingDecorator;
 import com.ahmadda.infra.notification.config.NotificationProperties;
 import com.ahmadda.infra.notification.mail.BccChunkingEmailSender;
+import com.ahmadda.infra.notification.mail.EmailDeliveryExecutor;
 import com.ahmadda.infra.notification.mail.EmailSender;
 import com.ahmadda.infra.notification.mail.FailoverEmailSender;
 import com.ahmadda.infra.notification.mail.NoopEmailSender;
 import com.ahmadda.infra.notification.mail.OutboxEmailSender;
+import com.ahmadda.infra.notification.mail.PooledJavaMailSender;
+import com.ahmadda.infra.notification.mail.RateLimitedEmailSender;
 import com.ahmadda.infra.notification.mail.RetryableEmailSender;
 import com.ahmadda.infra.notification.mail.SmtpEmailSender;
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxContentStore;
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxFailureHandler;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRecipientRepository;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRepository;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxSuccessHandler;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableConfigurationProperties({NotificationProperties.class, SmtpProperties.class})
 public class MailConfig {
 
+    private static final int GOOGLE_MAX_BCC = 100;
+    private static final int AWS_MAX_BCC = 50;
+    private static final Duration RATE_LIMIT_MAX_WAIT = Duration.ofSeconds(30);
+    private static final Duration SMTP_CONNECTION_BORROW_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DELIVERY_QUEUE_CAPACITY = 1000;
+
     @Bean
-    public EmailSender outboxEmailSender(
+    public OutboxEmailSender outboxEmailSender(
             final EmailOutboxRepository emailOutboxRepository,
             final EmailOutboxRecipientRepository emailOutboxRecipientRepository,
-            @Qualifier("failoverEmailSender") final EmailSender failoverEmailSender
+            final EmailOutboxContentStore emailOutboxContentStore,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler,
+            @Qualifier("failoverEmailSender") final EmailSender failoverEmailSender,
+            final EmailDeliveryExecutor emailDeliveryExecutor,
+            final MeterRegistry meterRegistry
     ) {
-        return new OutboxEmailSender(emailOutboxRepository, emailOutboxRecipientRepository, failoverEmailSender);
+        return new OutboxEmailSender(
+                emailOutboxRepository,
+                emailOutboxRecipientRepository,
+                emailOutboxContentStore,
+                emailOutboxFailureHandler,
+                failoverEmailSender,
+                emailDeliveryExecutor,
+                meterRegistry
+        );
     }
 
     @Bean
     public EmailSender failoverEmailSender(
             final RetryRegistry retryRegistry,
+            final SmtpProperties smtpProperties,
+            final MeterRegistry meterRegistry,
             final EmailSender googleSmtpEmailSender,
-            final EmailSender awsSmtpEmailSender
+            final EmailSender awsSmtpEmailSender,
+            final ThreadPoolTaskExecutor googleEmailChunkExecutor,
+            final ThreadPoolTaskExecutor awsEmailChunkExecutor,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler
     ) {
+        EmailSender googleRateLimited = createRateLimitedEmailSender(
+                googleSmtpEmailSender,
+                emailOutboxFailureHandler,
+                "google",
+                smtpProperties.getGoogle(),
+                GOOGLE_MAX_BCC,
+                meterRegistry
+        );
+        EmailSender awsRateLimited = createRateLimitedEmailSender(
+                awsSmtpEmailSender,
+                emailOutboxFailureHandler,
+                "aws",
+                smtpProperties.getAws(),
+                AWS_MAX_BCC,
+                meterRegistry
+        );
+
         EmailSender googleRetryable =
-                new RetryableEmailSender(googleSmtpEmailSender, retryRegistry, "googleEmail", 2, 1000);
+                new RetryableEmailSender(googleRateLimited, retryRegistry, "googleEmail", 2, 1000);
         EmailSender awsRetryable =
-                new RetryableEmailSender(awsSmtpEmailSender, retryRegistry, "awsEmail", 3, 1000);
+                new RetryableEmailSender(awsRateLimited, retryRegistry, "awsEmail", 3, 1000);
 
-        EmailSender googleChunked = new BccChunkingEmailSender(googleRetryable, 100);
-        EmailSender awsChunked = new BccChunkingEmailSender(awsRetryable, 50);
+        EmailSender googleChunked =
+                new BccChunkingEmailSender(googleRetryable, GOOGLE_MAX_BCC, googleEmailChunkExecutor);
+        EmailSender awsChunked = new BccChunkingEmailSender(awsRetryable, AWS_MAX_BCC, awsEmailChunkExecutor);
 
         return new FailoverEmailSender(googleChunked, awsChunked);
     }
 
     @Bean
     public EmailSender googleSmtpEmailSender(
-            final SmtpProperties smtpProperties,
+            final PooledJavaMailSender googleJavaMailSender,
             final EmailOutboxSuccessHandler emailOutboxSuccessHandler
     ) {
-        JavaMailSender sender = createJavaMailSender(smtpProperties.getGoogle());
-        return new SmtpEmailSender(sender, emailOutboxSuccessHandler);
+        return new SmtpEmailSender(googleJavaMailSender, emailOutboxSuccessHandler);
     }
 
     @Bean
     public EmailSender awsSmtpEmailSender(
-            final SmtpProperties smtpProperties,
+            final PooledJavaMailSender awsJavaMailSender,
             final EmailOutboxSuccessHandler emailOutboxSuccessHandler
     ) {
-        JavaMailSender sender = createJavaMailSender(smtpProperties.getAws());
-        return new SmtpEmailSender(sender, emailOutboxSuccessHandler);
+        return new SmtpEmailSender(awsJavaMailSender, emailOutboxSuccessHandler);
+    }
+
+    /**
+     * 제공자별로 인증을 마친 SMTP 연결을 재사용하는 메일 발송기.
+     * <p>
+     * 빈으로 등록해 애플리케이션이 종료될 때 풀에 남은 연결을 닫도록 한다.
+     */
+    @Bean
+    public PooledJavaMailSender googleJavaMailSender(
+            final SmtpProperties smtpProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return createJavaMailSender("google", smtpProperties.getGoogle(), meterRegistry);
+    }
+
+    @Bean
+    public PooledJavaMailSender awsJavaMailSender(
+            final SmtpProperties smtpProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return createJavaMailSender("aws", smtpProperties.getAws(), meterRegistry);
+    }
+
+    /**
+     * BCC 청크를 동시에 발송하는 스레드풀.
+     * <p>
+     * 동시에 발송하는 청크 수는 열어 둘 SMTP 연결 수(pool-size)를 넘지 않도록 맞추고,
+     * 대기열이 가득 차면 청크를 버리지 않고 호출한 스레드에서 직접 발송한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor googleEmailChunkExecutor(final SmtpProperties smtpProperties) {
+        return createBoundedExecutor("google-email-chunk-", smtpProperties.getGoogle()
+                .getPoolSize());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor awsEmailChunkExecutor(final SmtpProperties smtpProperties) {
+        return createBoundedExecutor("aws-email-chunk-", smtpProperties.getAws()
+                .getPoolSize());
+    }
+
+    /**
+     * 커밋 직후의 메일 발송을 공통 비동기 풀(taskExecutor)과 분리해 처리하는 실행기.
+     * <p>
+     * 동시에 발송하는 메일 수는 기본 제공자(google)의 SMTP 연결 수에 맞추고,
+     * 대기열이 가득 차면 발송을 아웃박스 스케줄러의 재발송으로 미룬다.
+     */
+    @Bean
+    public EmailDeliveryExecutor emailDeliveryExecutor(
+            final SmtpProperties smtpProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new EmailDeliveryExecutor(
+                smtpProperties.getGoogle()
+                        .getPoolSize(),
+                DELIVERY_QUEUE_CAPACITY,
+                meterRegistry
+        );
+    }
+
+    /**
+     * 아웃박스 스케줄러가 적체된 아웃박스를 동시에 재발송하는 스레드풀.
+     * <p>
+     * 동시에 재발송하는 아웃박스 수는 기본 제공자(google)의 SMTP 연결 수를 넘지 않도록 맞춘다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailOutboxDrainExecutor(final SmtpProperties smtpProperties) {
+        return createBoundedExecutor("email-outbox-drain-", smtpProperties.getGoogle()
+                .getPoolSize());
     }
 
     @Bean
@@ -76,8 +193,17 @@ public class MailConfig {
         return new NoopEmailSender();
     }
 
-    private JavaMailSender createJavaMailSender(final SmtpProperties.Account acc) {
-        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+    private PooledJavaMailSender createJavaMailSender(
+            final String provider,
+            final SmtpProperties.Account acc,
+            final MeterRegistry meterRegistry
+    ) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(
+                provider,
+                acc.getPoolSize(),
+                SMTP_CONNECTION_BORROW_TIMEOUT,
+                meterRegistry
+        );
         sender.setHost(acc.getHost());
         sender.setPort(acc.getPort());
         sender.setUsername(acc.getUsername());
@@ -90,4 +216,43 @@ public class MailConfig {
 
         return sender;
     }
+
+    private EmailSender createRateLimitedEmailSender(
+            final EmailSender smtpEmailSender,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler,
+            final String provider,
+            final SmtpProperties.Account acc,
+            final int maxBcc,
+            final MeterRegistry meterRegistry
+    ) {
+        return new RateLimitedEmailSender(
+                smtpEmailSender,
+                emailOutboxFailureHandler,
+                provider,
+                acc.getMaxMessagesPerSecond(),
+                acc.getMaxRecipientsPerSecond(),
+                maxBcc,
+                RATE_LIMIT_MAX_WAIT,
+                meterRegistry
+        );
+    }
+
+    private ThreadPoolTaskExecutor createBoundedExecutor(final String threadNamePrefix, final int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(new AsyncTraceLoggingDecorator());
+
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(100);
+        executor.setKeepAliveSeconds(60);
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+        return executor;
+    }
 }
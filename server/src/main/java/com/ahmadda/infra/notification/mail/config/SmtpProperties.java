@@ -2,6 +2,7 @@ package com.ahmadda.infra.notification.mail.config;
 
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import java.util.Map;
 
@@ -36,28 +37,39 @@ public class SmtpProperties {
         private final String username;
         private final String password;
         private final Map<String, String> properties;
+        private final int poolSize;
+        private final int maxMessagesPerSecond;
+        private final int maxRecipientsPerSecond;
 
         public Account(
                 final String host,
                 final int port,
                 final String username,
                 final String password,
-                final Map<String, String> properties
+                final Map<String, String> properties,
+                @DefaultValue("1") final int poolSize,
+                @DefaultValue("10") final int maxMessagesPerSecond,
+                @DefaultValue("100") final int maxRecipientsPerSecond
         ) {
-            validateProperties(host, port, username, password);
+            validateProperties(host, port, username, password, poolSize);
+            validateRateLimit(maxMessagesPerSecond, maxRecipientsPerSecond);
 
             this.host = host;
             this.port = port;
             this.username = username;
             this.password = password;
             this.properties = properties;
+            this.poolSize = poolSize;
+            this.maxMessagesPerSecond = maxMessagesPerSecond;
+            this.maxRecipientsPerSecond = maxRecipientsPerSecond;
         }
 
         private static void validateProperties(
                 final String host,
                 final int port,
                 final String username,
-                final String password
+                final String password,
+                final int poolSize
         ) {
             if (host == null || host.isBlank()) {
                 throw new IllegalArgumentException("SMTP host 설정이 비어있습니다.");
@@ -71,6 +83,18 @@ public class SmtpProperties {
             if (password == null || password.isBlank()) {
                 throw new IllegalArgumentException("SMTP password 설정이 비어있습니다.");
             }
+            if (poolSize <= 0) {
+                throw new IllegalArgumentException("SMTP pool-size 설정이 올바르지 않습니다.");
+            }
+        }
+
+        private static void validateRateLimit(final int maxMessagesPerSecond, final int maxRecipientsPerSecond) {
+            if (maxMessagesPerSecond <= 0) {
+                throw new IllegalArgumentException("SMTP max-messages-per-second 설정이 올바르지 않습니다.");
+            }
+            if (maxRecipientsPerSecond <= 0) {
+                throw new IllegalArgumentException("SMTP max-recipients-per-second 설정이 올바르지 않습니다.");
+            }
         }
     }
 }
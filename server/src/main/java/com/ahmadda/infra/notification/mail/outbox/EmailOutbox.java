@@ -2,13 +2,19 @@ package com.ahmadda.infra.notification.mail.outbox;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,51 +22,98 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailOutbox {
 
+    public static final int MAX_ATTEMPTS = 8;
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "email_outbox_id")
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash", nullable = false)
+    private EmailOutboxContent content;
+
     @Column(nullable = false)
-    private String subject;
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status;
 
-    @Column(nullable = false, columnDefinition = "LONGTEXT")
-    private String body;
+    @Column(nullable = false)
+    private int attemptCount;
 
     @Column(nullable = false)
-    private LocalDateTime lockedAt;
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     private EmailOutbox(
-            final String subject,
-            final String body,
-            final LocalDateTime lockedAt,
+            final EmailOutboxContent content,
+            final LocalDateTime nextAttemptAt,
             final LocalDateTime createdAt
     ) {
-        this.subject = subject;
-        this.body = body;
-        this.lockedAt = lockedAt;
+        this.content = content;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attemptCount = 1;
+        this.nextAttemptAt = nextAttemptAt;
         this.createdAt = createdAt;
     }
 
     public static EmailOutbox create(
-            final String subject,
-            final String body,
-            final LocalDateTime lockedAt,
+            final EmailOutboxContent content,
+            final LocalDateTime nextAttemptAt,
             final LocalDateTime createdAt
     ) {
-        return new EmailOutbox(subject, body, lockedAt, createdAt);
+        return new EmailOutbox(content, nextAttemptAt, createdAt);
     }
 
-    public static EmailOutbox createNow(final String subject, final String body) {
+    /**
+     * 커밋 직후 첫 발송을 시도하는 아웃박스를 만든다. 첫 발송이 끝나지 않으면 첫 번째 대기 시간 뒤에 재발송된다.
+     */
+    public static EmailOutbox createNow(final EmailOutboxContent content) {
         LocalDateTime now = LocalDateTime.now();
 
-        return new EmailOutbox(subject, body, now, now);
+        return new EmailOutbox(content, now.plus(backoff(1)), now);
+    }
+
+    /**
+     * n번째 시도가 끝나지 않았을 때 다음 시도까지 기다리는 시간. 5분에서 시작해 두 배씩 늘리고 6시간을 넘기지 않는다.
+     */
+    static Duration backoff(final int attemptCount) {
+        int exponent = Math.min(attemptCount - 1, 16);
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    public String getSubject() {
+        return content.getSubject();
+    }
+
+    public String getBody() {
+        return content.getBody();
+    }
+
+    public boolean isRetryExhausted() {
+        return attemptCount >= MAX_ATTEMPTS;
+    }
+
+    /**
+     * 재발송을 시작하면서 시도 횟수를 늘리고, 이번 시도가 끝나지 않을 경우에 대비해 다음 시도 일시를 미룬다.
+     */
+    public void startAttempt() {
+        attemptCount++;
+        nextAttemptAt = LocalDateTime.now()
+                .plus(backoff(attemptCount));
     }
 
-    public void lock() {
-        this.lockedAt = LocalDateTime.now();
+    public void deadLetter() {
+        status = EmailOutboxStatus.DEAD;
     }
 }
@@ -0,0 +1,91 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class EmailOutboxClaimer {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxRecipientRepository emailOutboxRecipientRepository;
+    private final EmailOutboxContentStore emailOutboxContentStore;
+
+    /**
+     * 다음 시도 일시가 지난 아웃박스를 최대 limit건 잠그고 시도 횟수와 다음 시도 일시를 갱신한 뒤 재발송할 내용을 돌려준다.
+     * <p>
+     * 수신자는 잠근 아웃박스 전체를 한 번의 쿼리로 조회하고, 수신자가 남지 않은 아웃박스는 여기서 삭제한다.
+     * 최대 시도 횟수를 채운 아웃박스는 더 보내지 않고 DEAD 상태로 바꾸어 남은 수신자와 마지막 실패 원인을 보존한다.
+     * 트랜잭션은 상태 갱신까지만 유지하므로 실제 발송이 끝날 때까지 행 잠금을 붙잡고 있지 않는다.
+     */
+    @Transactional
+    public ClaimResult claimDue(final LocalDateTime now, final int limit) {
+        List<EmailOutbox> outboxes = emailOutboxRepository.findAndLockDueOutboxes(now, limit);
+        if (outboxes.isEmpty()) {
+            return new ClaimResult(0, 0, List.of());
+        }
+
+        Map<Long, List<String>> recipientEmailsByOutboxId = findRecipientEmails(outboxes);
+
+        int deadLetteredCount = 0;
+        List<EmailOutboxDispatch> dispatches = new ArrayList<>();
+        for (EmailOutbox outbox : outboxes) {
+            List<String> recipientEmails = recipientEmailsByOutboxId.getOrDefault(outbox.getId(), List.of());
+            if (recipientEmails.isEmpty()) {
+                emailOutboxRepository.delete(outbox);
+                emailOutboxContentStore.release(outbox.getContent());
+                continue;
+            }
+
+            if (outbox.isRetryExhausted()) {
+                outbox.deadLetter();
+                deadLetteredCount++;
+                log.warn(
+                        "emailOutboxDeadLettered - emailOutboxId: {}, attemptCount: {}, recipientCount: {}, lastError: {}",
+                        outbox.getId(),
+                        outbox.getAttemptCount(),
+                        recipientEmails.size(),
+                        outbox.getLastError()
+                );
+                continue;
+            }
+
+            outbox.startAttempt();
+            dispatches.add(new EmailOutboxDispatch(
+                    outbox.getId(),
+                    recipientEmails,
+                    outbox.getSubject(),
+                    outbox.getBody()
+            ));
+        }
+
+        return new ClaimResult(outboxes.size(), deadLetteredCount, dispatches);
+    }
+
+    private Map<Long, List<String>> findRecipientEmails(final List<EmailOutbox> outboxes) {
+        List<Long> outboxIds = outboxes.stream()
+                .map(EmailOutbox::getId)
+                .toList();
+
+        return emailOutboxRecipientRepository.findAllByEmailOutboxIdInOrderByIdAsc(outboxIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        recipient -> recipient.getEmailOutbox()
+                                .getId(),
+                        Collectors.mapping(EmailOutboxRecipient::getRecipientEmail, Collectors.toList())
+                ));
+    }
+
+    record ClaimResult(int claimedCount, int deadLetteredCount, List<EmailOutboxDispatch> dispatches) {
+
+    }
+}
@@ -0,0 +1,79 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 아웃박스 메일의 제목과 본문을 SHA-256 해시로 식별해 한 번만 저장한다.
+ * <p>
+ * 같은 이벤트에 같은 내용으로 보내는 알림은 본문이 동일하므로, 아웃박스는 해시만 참조하고
+ * 참조 수가 0이 되면 본문도 함께 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutboxContent {
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String body;
+
+    // 참조 수는 동시 발송에서도 유실되지 않도록 EmailOutboxContentRepository 의 UPDATE 로만 반영한다.
+    @Column(nullable = false, updatable = false)
+    private int referenceCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private EmailOutboxContent(
+            final String contentHash,
+            final String subject,
+            final String body,
+            final LocalDateTime createdAt
+    ) {
+        this.contentHash = contentHash;
+        this.subject = subject;
+        this.body = body;
+        this.referenceCount = 0;
+        this.createdAt = createdAt;
+    }
+
+    public static EmailOutboxContent create(final String subject, final String body) {
+        return new EmailOutboxContent(hash(subject, body), subject, body, LocalDateTime.now());
+    }
+
+    public static String hash(final String subject, final String body) {
+        MessageDigest digest = createSha256Digest();
+        digest.update(subject.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(body.getBytes(StandardCharsets.UTF_8));
+
+        return HEX_FORMAT.formatHex(digest.digest());
+    }
+
+    private static MessageDigest createSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface EmailOutboxContentRepository extends JpaRepository<EmailOutboxContent, String> {
+
+    /**
+     * 본문이 없으면 참조 수 1로 저장하고, 있으면 참조 수를 1 늘린다.
+     * 한 문장으로 처리하므로 같은 본문을 동시에 저장하거나 참조 수가 0인 본문이 그 사이 삭제되어도 참조 수가 유실되지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            insert into email_outbox_content (content_hash, subject, body, reference_count, created_at)
+            values (:contentHash, :subject, :body, 1, :createdAt)
+            on duplicate key update reference_count = reference_count + 1
+            """, nativeQuery = true)
+    int upsertReference(
+            final String contentHash,
+            final String subject,
+            final String body,
+            final LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query("""
+            update EmailOutboxContent c
+            set c.referenceCount = c.referenceCount + 1
+            where c.contentHash = :contentHash
+            """)
+    int increaseReferenceCount(final String contentHash);
+
+    @Modifying
+    @Query("""
+            update EmailOutboxContent c
+            set c.referenceCount = c.referenceCount - 1
+            where c.contentHash = :contentHash
+              and c.referenceCount > 0
+            """)
+    int decreaseReferenceCount(final String contentHash);
+
+    @Modifying
+    @Query("""
+            delete from EmailOutboxContent c
+            where c.contentHash = :contentHash
+              and c.referenceCount = 0
+            """)
+    int deleteIfUnreferenced(final String contentHash);
+
+    @Modifying
+    @Query("""
+            delete from EmailOutboxContent c
+            where c.referenceCount = 0
+              and c.createdAt < :threshold
+            """)
+    int deleteAllUnreferencedCreatedBefore(final LocalDateTime threshold);
+}
@@ -0,0 +1,46 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxContentStore {
+
+    private final EmailOutboxContentRepository emailOutboxContentRepository;
+
+    /**
+     * 제목과 본문의 해시로 저장된 본문의 참조 수를 1 늘린다. 처음 보는 본문이면 참조 수 1로 저장한다.
+     * <p>
+     * 존재 확인과 저장, 참조 수 증가를 호출한 트랜잭션 안의 한 문장으로 처리한다. 존재하지 않는 키를 갱신하거나
+     * 별도 트랜잭션에서 저장하면 MySQL 의 갭 잠금끼리 서로 기다리게 되고, 참조 수가 0인 본문은 그 사이에
+     * 다른 트랜잭션의 release 나 미참조 본문 정리로 삭제될 수 있기 때문이다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmailOutboxContent acquire(final String subject, final String body) {
+        EmailOutboxContent content = EmailOutboxContent.create(subject, body);
+        emailOutboxContentRepository.upsertReference(
+                content.getContentHash(),
+                content.getSubject(),
+                content.getBody(),
+                content.getCreatedAt()
+        );
+
+        return emailOutboxContentRepository.getReferenceById(content.getContentHash());
+    }
+
+    /**
+     * 아웃박스가 삭제될 때 참조 수를 1 줄이고, 더 이상 참조하는 아웃박스가 없으면 본문을 삭제한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(final EmailOutboxContent content) {
+        String contentHash = content.getContentHash();
+
+        // 외래 키 위반을 막기 위해 아직 반영되지 않은 아웃박스 삭제를 본문 삭제보다 먼저 내보낸다.
+        emailOutboxContentRepository.flush();
+        emailOutboxContentRepository.decreaseReferenceCount(contentHash);
+        emailOutboxContentRepository.deleteIfUnreferenced(contentHash);
+    }
+}
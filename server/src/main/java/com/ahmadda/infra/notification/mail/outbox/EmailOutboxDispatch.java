@@ -0,0 +1,15 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import java.util.List;
+
+/**
+ * 잠금을 마친 아웃박스 한 건을 트랜잭션 밖에서 재발송하기 위해 필요한 값만 옮겨 담는다.
+ */
+record EmailOutboxDispatch(
+        Long emailOutboxId,
+        List<String> recipientEmails,
+        String subject,
+        String body
+) {
+
+}
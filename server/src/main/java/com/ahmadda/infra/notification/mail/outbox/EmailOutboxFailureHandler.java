@@ -0,0 +1,53 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxFailureHandler {
+
+    private static final Duration DEFERRAL_DELAY = Duration.ofMinutes(1);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    /**
+     * 발송에 실패한 원인을 아웃박스에 남긴다. 재발송 일정은 시도를 시작할 때 이미 미뤄 두었으므로 바꾸지 않는다.
+     */
+    @Transactional
+    public void handleFailure(final Long emailOutboxId, final Throwable cause) {
+        emailOutboxRepository.updateLastError(emailOutboxId, summarize(cause));
+    }
+
+    /**
+     * 발송 한도 때문에 보내지 못한 시도를 되돌린다.
+     * <p>
+     * 시도를 시작할 때 늘린 시도 횟수를 줄이고 짧은 대기 뒤에 다시 보내도록 다음 시도 일시를 당겨, 한도로 미룬 발송이
+     * 최대 시도 횟수를 소진하지 않게 한다. BCC 청크마다 호출되어도 다음 시도 일시가 이미 당겨졌다면 다시 줄이지 않는다.
+     */
+    @Transactional
+    public void handleDeferral(final Long emailOutboxId, final String reason) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now()
+                .plus(DEFERRAL_DELAY);
+        emailOutboxRepository.undoAttempt(emailOutboxId, nextAttemptAt, truncate(reason));
+    }
+
+    private String summarize(final Throwable cause) {
+        String summary = cause.getClass()
+                .getSimpleName() + ": " + cause.getMessage();
+
+        return truncate(summary);
+    }
+
+    private String truncate(final String summary) {
+        if (summary.length() <= EmailOutbox.MAX_ERROR_LENGTH) {
+            return summary;
+        }
+
+        return summary.substring(0, EmailOutbox.MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import java.util.List;
+
+public interface EmailOutboxRecipientBatchRepository {
+
+    /**
+     * 아웃박스 수신자를 행마다 INSERT 하지 않고 하나의 JDBC 배치로 저장한다.
+     *
+     * @param emailOutboxId 수신자를 저장할 아웃박스 식별자
+     * @param recipientEmails 저장할 수신자 이메일 목록
+     */
+    void insertRecipients(Long emailOutboxId, List<String> recipientEmails);
+}
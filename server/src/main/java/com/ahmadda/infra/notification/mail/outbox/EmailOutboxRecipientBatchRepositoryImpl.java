@@ -0,0 +1,34 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EmailOutboxRecipientBatchRepositoryImpl implements EmailOutboxRecipientBatchRepository {
+
+    private static final String INSERT_RECIPIENT_SQL = """
+            INSERT INTO email_outbox_recipient (email_outbox_id, recipient_email)
+            VALUES (?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertRecipients(final Long emailOutboxId, final List<String> recipientEmails) {
+        if (recipientEmails.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                INSERT_RECIPIENT_SQL,
+                recipientEmails,
+                recipientEmails.size(),
+                (preparedStatement, recipientEmail) -> {
+                    preparedStatement.setLong(1, emailOutboxId);
+                    preparedStatement.setString(2, recipientEmail);
+                }
+        );
+    }
+}
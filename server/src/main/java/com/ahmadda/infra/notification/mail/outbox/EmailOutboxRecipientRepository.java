@@ -2,15 +2,26 @@ package com.ahmadda.infra.notification.mail.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface EmailOutboxRecipientRepository extends JpaRepository<EmailOutboxRecipient, Long> {
+public interface EmailOutboxRecipientRepository
+        extends JpaRepository<EmailOutboxRecipient, Long>, EmailOutboxRecipientBatchRepository {
 
     @Modifying(clearAutomatically = true)
-    int deleteByEmailOutboxIdAndRecipientEmail(final Long emailOutboxId, final String recipientEmail);
+    @Query("""
+            delete from EmailOutboxRecipient r
+            where r.emailOutbox.id = :emailOutboxId
+              and r.recipientEmail in :recipientEmails
+            """)
+    int deleteAllByEmailOutboxIdAndRecipientEmailIn(
+            final Long emailOutboxId,
+            final Collection<String> recipientEmails
+    );
 
     boolean existsByEmailOutboxId(final Long emailOutboxId);
 
-    List<EmailOutboxRecipient> findAllByEmailOutboxId(final Long emailOutboxId);
+    List<EmailOutboxRecipient> findAllByEmailOutboxIdInOrderByIdAsc(final Collection<Long> emailOutboxIds);
 }
@@ -1,31 +1,52 @@
 package com.ahmadda.infra.notification.mail.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
 
-    Optional<EmailOutbox> findTopBySubjectAndBodyOrderByCreatedAtDesc(final String subject, final String body);
-
     /**
-     * 지정된 시각(threshold) 이전에 locked_at이 만료된 Outbox 레코드를 조회하고 잠근다.
+     * 다음 시도 일시(next_attempt_at)가 지난 대기 중인 Outbox 레코드를 조회하고 잠근다.
      * FOR UPDATE SKIP LOCKED로 병렬 처리 시 중복을 방지하며,
-     * ORDER BY id LIMIT 50으로 넥스트키 락을 피하고 트랜잭션 락 범위를 제한한다.
+     * (status, next_attempt_at) 인덱스 순서로 읽고 LIMIT으로 트랜잭션 락 범위를 제한한다.
      *
-     * @param threshold 잠금 만료 기준 시각
-     * @return 잠금 만료된 Outbox 레코드 목록 (최대 50건)
+     * @param now   재발송 기준 시각
+     * @param limit 한 번에 잠글 최대 건수
+     * @return 재발송할 Outbox 레코드 목록 (최대 limit건)
      */
     @Query(value = """
             select *
             from email_outbox o
-            where o.locked_at < :threshold
-            order by o.email_outbox_id
-            limit 50
+            where o.status = 'PENDING'
+              and o.next_attempt_at <= :now
+            order by o.next_attempt_at
+            limit :limit
             for update skip locked
             """, nativeQuery = true)
-    List<EmailOutbox> findAndLockExpiredOutboxes(final LocalDateTime threshold);
+    List<EmailOutbox> findAndLockDueOutboxes(final LocalDateTime now, final int limit);
+
+    long countByStatusAndNextAttemptAtLessThanEqual(final EmailOutboxStatus status, final LocalDateTime now);
+
+    @Modifying
+    @Query("update EmailOutbox o set o.lastError = :lastError where o.id = :emailOutboxId")
+    int updateLastError(final Long emailOutboxId, final String lastError);
+
+    /**
+     * 시작한 시도를 되돌리고 다음 시도 일시를 nextAttemptAt 으로 당긴다.
+     * 다음 시도 일시가 이미 nextAttemptAt 이전이면 같은 시도를 되돌린 것으로 보고 갱신하지 않는다.
+     */
+    @Modifying
+    @Query("""
+            update EmailOutbox o
+            set o.attemptCount = o.attemptCount - 1,
+                o.nextAttemptAt = :nextAttemptAt,
+                o.lastError = :lastError
+            where o.id = :emailOutboxId
+              and o.nextAttemptAt > :nextAttemptAt
+            """)
+    int undoAttempt(final Long emailOutboxId, final LocalDateTime nextAttemptAt, final String lastError);
 }
@@ -1,55 +1,153 @@
 package com.ahmadda.infra.notification.mail.outbox;
 
 import com.ahmadda.infra.notification.mail.EmailSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Component
 public class EmailOutboxScheduler {
 
     private final EmailSender emailSender;
     private final EmailOutboxRepository emailOutboxRepository;
-    private final EmailOutboxRecipientRepository emailOutboxRecipientRepository;
+    private final EmailOutboxClaimer emailOutboxClaimer;
+    private final EmailOutboxFailureHandler emailOutboxFailureHandler;
+    private final EmailOutboxContentRepository emailOutboxContentRepository;
+    private final Executor drainExecutor;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final Counter drainedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer drainTimer;
 
-    private static final int SOFT_LOCK_TTL_MINUTES = 5;
+    private static final int UNREFERENCED_CONTENT_TTL_HOURS = 1;
+    private static final int CLAIM_BATCH_SIZE = 50;
+    private static final Duration DRAIN_TIME_BUDGET = Duration.ofSeconds(50);
 
     public EmailOutboxScheduler(
             @Qualifier("failoverEmailSender") final EmailSender emailSender,
             final EmailOutboxRepository emailOutboxRepository,
-            final EmailOutboxRecipientRepository emailOutboxRecipientRepository
+            final EmailOutboxClaimer emailOutboxClaimer,
+            final EmailOutboxFailureHandler emailOutboxFailureHandler,
+            final EmailOutboxContentRepository emailOutboxContentRepository,
+            @Qualifier("emailOutboxDrainExecutor") final Executor drainExecutor,
+            final MeterRegistry meterRegistry
     ) {
         this.emailSender = emailSender;
         this.emailOutboxRepository = emailOutboxRepository;
-        this.emailOutboxRecipientRepository = emailOutboxRecipientRepository;
+        this.emailOutboxClaimer = emailOutboxClaimer;
+        this.emailOutboxFailureHandler = emailOutboxFailureHandler;
+        this.emailOutboxContentRepository = emailOutboxContentRepository;
+        this.drainExecutor = drainExecutor;
+        this.drainedCounter = Counter.builder("email.outbox.drained")
+                .description("아웃박스 스케줄러가 재발송한 아웃박스 수")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("email.outbox.dead-lettered")
+                .description("최대 시도 횟수를 채워 재발송을 멈춘 아웃박스 수")
+                .register(meterRegistry);
+        this.drainTimer = Timer.builder("email.outbox.drain")
+                .description("아웃박스 스케줄러가 한 번 실행되어 적체를 비우는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.backlog", backlogSize, AtomicLong::get)
+                .description("다음 시도 일시가 지나 재발송을 기다리는 아웃박스 수")
+                .register(meterRegistry);
     }
 
-    @Transactional
+    /**
+     * 다음 시도 일시가 지난 아웃박스가 없어지거나 시간 예산을 다 쓸 때까지 배치 단위로 잠그고 재발송한다.
+     * <p>
+     * 배치마다 짧은 트랜잭션으로 시도 횟수와 다음 시도 일시만 갱신하고, 발송은 트랜잭션 밖에서 drainExecutor 로 동시에 수행한다.
+     * 배치의 발송이 모두 끝난 뒤 다음 배치를 잠그므로 동시에 발송하는 아웃박스 수는 drainExecutor 크기로 제한된다.
+     * FOR UPDATE SKIP LOCKED 로 잠그므로 여러 서버가 동시에 실행해도 서로 다른 아웃박스를 나누어 처리한다.
+     */
     @Scheduled(fixedRate = 60 * 1000)
     public void resendFailedEmails() {
-        LocalDateTime threshold = LocalDateTime.now()
-                .minusMinutes(SOFT_LOCK_TTL_MINUTES);
-        List<EmailOutbox> failedOutboxes = emailOutboxRepository.findAndLockExpiredOutboxes(threshold);
+        LocalDateTime now = LocalDateTime.now();
+        long deadline = System.nanoTime() + DRAIN_TIME_BUDGET.toNanos();
+        backlogSize.set(emailOutboxRepository.countByStatusAndNextAttemptAtLessThanEqual(
+                EmailOutboxStatus.PENDING,
+                now
+        ));
+
+        long startedAt = System.nanoTime();
+        int drainedCount = 0;
+        EmailOutboxClaimer.ClaimResult claimResult;
+        do {
+            claimResult = emailOutboxClaimer.claimDue(now, CLAIM_BATCH_SIZE);
+            resendAll(claimResult.dispatches());
 
-        for (EmailOutbox outbox : failedOutboxes) {
-            List<EmailOutboxRecipient> recipients =
-                    emailOutboxRecipientRepository.findAllByEmailOutboxId(outbox.getId());
+            int claimedCount = claimResult.claimedCount();
+            int resentCount = claimResult.dispatches()
+                    .size();
+            drainedCount += resentCount;
+            drainedCounter.increment(resentCount);
+            deadLetteredCounter.increment(claimResult.deadLetteredCount());
+            backlogSize.updateAndGet(size -> Math.max(0, size - claimedCount));
+        } while (claimResult.claimedCount() == CLAIM_BATCH_SIZE && System.nanoTime() < deadline);
 
-            if (recipients.isEmpty()) {
-                emailOutboxRepository.delete(outbox);
-                continue;
-            }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        drainTimer.record(Duration.ofNanos(elapsedNanos));
+        if (drainedCount > 0) {
+            log.info(
+                    "emailOutboxDrained - drainedCount: {}, elapsedMs: {}, remainingBacklog: {}",
+                    drainedCount,
+                    Duration.ofNanos(elapsedNanos)
+                            .toMillis(),
+                    backlogSize.get()
+            );
+        }
+    }
 
-            outbox.lock();
+    /**
+     * 아웃박스를 저장하던 트랜잭션이 롤백되면 먼저 커밋된 본문이 참조 없이 남으므로 주기적으로 정리한다.
+     */
+    @Transactional
+    @Scheduled(fixedRate = 60 * 60 * 1000)
+    public void deleteUnreferencedContents() {
+        LocalDateTime threshold = LocalDateTime.now()
+                .minusHours(UNREFERENCED_CONTENT_TTL_HOURS);
+        emailOutboxContentRepository.deleteAllUnreferencedCreatedBefore(threshold);
+    }
+
+    private void resendAll(final List<EmailOutboxDispatch> dispatches) {
+        CompletableFuture<?>[] futures = dispatches.stream()
+                .map(dispatch -> CompletableFuture.runAsync(() -> resend(dispatch), drainExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures)
+                .join();
+    }
 
-            List<String> recipientEmails = recipients.stream()
-                    .map(EmailOutboxRecipient::getRecipientEmail)
-                    .toList();
-            emailSender.sendEmails(recipientEmails, outbox.getSubject(), outbox.getBody());
+    private void resend(final EmailOutboxDispatch dispatch) {
+        try {
+            emailSender.sendEmails(
+                    dispatch.emailOutboxId(),
+                    dispatch.recipientEmails(),
+                    dispatch.subject(),
+                    dispatch.body()
+            );
+        } catch (RuntimeException ex) {
+            // 실패한 아웃박스는 수신자가 남아 있으므로 다음 시도 일시가 지나면 다시 재발송된다.
+            emailOutboxFailureHandler.handleFailure(dispatch.emailOutboxId(), ex);
+            log.warn(
+                    "emailOutboxResendFailed - emailOutboxId: {}, cause: {}",
+                    dispatch.emailOutboxId(),
+                    ex.getMessage(),
+                    ex
+            );
         }
     }
 }
@@ -0,0 +1,6 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    DEAD
+}
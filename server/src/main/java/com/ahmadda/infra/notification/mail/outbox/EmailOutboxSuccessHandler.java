@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -12,22 +13,29 @@ public class EmailOutboxSuccessHandler {
 
     private final EmailOutboxRepository emailOutboxRepository;
     private final EmailOutboxRecipientRepository emailOutboxRecipientRepository;
+    private final EmailOutboxContentStore emailOutboxContentStore;
 
+    /**
+     * 한 번의 발송(BCC 청크)으로 성공한 수신자들을 아웃박스에서 한 번에 삭제하고,
+     * 남은 수신자가 없으면 아웃박스도 함께 삭제한다.
+     */
     @Transactional
-    public void handleSuccess(final String recipientEmail, final String subject, final String body) {
-        EmailOutbox outbox = emailOutboxRepository
-                .findTopBySubjectAndBodyOrderByCreatedAtDesc(subject, body)
-                .orElseThrow(() -> new EmailOutboxException("존재하지 않는 아웃박스입니다."));
-
+    public void handleSuccess(final Long emailOutboxId, final List<String> recipientEmails) {
         int deletedCount = emailOutboxRecipientRepository
-                .deleteByEmailOutboxIdAndRecipientEmail(outbox.getId(), recipientEmail);
+                .deleteAllByEmailOutboxIdAndRecipientEmailIn(emailOutboxId, recipientEmails);
         if (deletedCount == 0) {
             throw new EmailOutboxException("존재하지 않는 아웃박스 수신자입니다.");
         }
 
-        boolean hasRemaining = emailOutboxRecipientRepository.existsByEmailOutboxId(outbox.getId());
+        boolean hasRemaining = emailOutboxRecipientRepository.existsByEmailOutboxId(emailOutboxId);
         if (!hasRemaining) {
-            emailOutboxRepository.delete(outbox);
+            emailOutboxRepository.findById(emailOutboxId)
+                    .ifPresent(this::deleteOutbox);
         }
     }
+
+    private void deleteOutbox(final EmailOutbox outbox) {
+        emailOutboxRepository.delete(outbox);
+        emailOutboxContentStore.release(outbox.getContent());
+    }
 }
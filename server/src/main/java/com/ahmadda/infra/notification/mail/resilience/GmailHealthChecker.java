@@ -18,6 +18,7 @@ public class GmailHealthChecker {
     public boolean isAvailable() {
         try {
             googleSmtpEmailSender.sendEmails(
+                    null,
                     List.of("amadda.team@gmail.com"),
                     "[시스템 점검] Gmail 발송 상태 확인 메일",
                     "이 메일은 시스템의 Gmail 발송 기능을 점검하기 위한 테스트용 메일입니다."
@@ -0,0 +1,103 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 없이 푸시 발송 체인을 실행하기 위한 로컬 대역.
+ * <p>
+ * 멀티캐스트마다 latency 만큼 기다린 뒤, quotaExceededRatio 확률로 요청 전체를 RESOURCE_EXHAUSTED 로 실패시키고,
+ * 그렇지 않으면 토큰마다 unregisteredRatio 확률로 UNREGISTERED, unavailableRatio 확률로 UNAVAILABLE 을 돌려준다.
+ * 실제로는 아무 기기에도 보내지 않는다.
+ */
+public class FakeFcmMessagingGateway implements FcmMessagingGateway {
+
+    private static final Duration QUOTA_RETRY_AFTER = Duration.ofSeconds(60);
+
+    private final Duration latency;
+    private final double unregisteredRatio;
+    private final double unavailableRatio;
+    private final double quotaExceededRatio;
+    private final AtomicLong multicastCount = new AtomicLong();
+    private final AtomicLong tokenCount = new AtomicLong();
+
+    public FakeFcmMessagingGateway(
+            final Duration latency,
+            final double unregisteredRatio,
+            final double unavailableRatio,
+            final double quotaExceededRatio
+    ) {
+        this.latency = latency;
+        this.unregisteredRatio = unregisteredRatio;
+        this.unavailableRatio = unavailableRatio;
+        this.quotaExceededRatio = quotaExceededRatio;
+    }
+
+    @Override
+    public List<FcmSendResponse> sendMulticast(final FcmPushContent content, final List<String> registrationTokens) {
+        return send(registrationTokens);
+    }
+
+    @Override
+    public List<FcmSendResponse> validate(final List<String> registrationTokens) {
+        return send(registrationTokens);
+    }
+
+    public long getMulticastCount() {
+        return multicastCount.get();
+    }
+
+    public long getTokenCount() {
+        return tokenCount.get();
+    }
+
+    private List<FcmSendResponse> send(final List<String> registrationTokens) {
+        simulateLatency();
+        multicastCount.incrementAndGet();
+        tokenCount.addAndGet(registrationTokens.size());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < quotaExceededRatio) {
+            throw new FcmMulticastException(
+                    "FCM 할당량을 초과했습니다.",
+                    ErrorCode.RESOURCE_EXHAUSTED,
+                    QUOTA_RETRY_AFTER,
+                    null
+            );
+        }
+
+        return registrationTokens.stream()
+                .map(registrationToken -> createResponse(random.nextDouble()))
+                .toList();
+    }
+
+    private FcmSendResponse createResponse(final double sample) {
+        if (sample < unregisteredRatio) {
+            return FcmSendResponse.failure(MessagingErrorCode.UNREGISTERED, Duration.ZERO);
+        }
+        if (sample < unregisteredRatio + unavailableRatio) {
+            return FcmSendResponse.failure(MessagingErrorCode.UNAVAILABLE, Duration.ZERO);
+        }
+
+        return FcmSendResponse.success();
+    }
+
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+}
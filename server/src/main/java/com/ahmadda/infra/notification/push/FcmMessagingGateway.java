@@ -0,0 +1,19 @@
+package com.ahmadda.infra.notification.push;
+
+import java.util.List;
+
+/**
+ * FCM 멀티캐스트 발송 창구.
+ * <p>
+ * 응답은 registrationTokens 와 같은 순서로 돌려주며, 요청 자체가 실패하면 FcmMulticastException 을 던진다.
+ * 한 번에 보낼 수 있는 토큰은 최대 500개이다.
+ */
+public interface FcmMessagingGateway {
+
+    List<FcmSendResponse> sendMulticast(final FcmPushContent content, final List<String> registrationTokens);
+
+    /**
+     * 기기로 전달하지 않는 드라이런 발송으로 토큰이 아직 유효한지 확인한다.
+     */
+    List<FcmSendResponse> validate(final List<String> registrationTokens);
+}
@@ -0,0 +1,37 @@
+package com.ahmadda.infra.notification.push;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * FCM 멀티캐스트 메시지에 담기는 데이터. 같은 내용의 재시도를 하나의 멀티캐스트로 묶는 기준이 된다.
+ */
+public record FcmPushContent(
+        String title,
+        String body,
+        String redirectUrl
+) {
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    public String hash() {
+        MessageDigest digest = createSha256Digest();
+        digest.update(title.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(body.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(redirectUrl.getBytes(StandardCharsets.UTF_8));
+
+        return HEX_FORMAT.formatHex(digest.digest());
+    }
+
+    private static MessageDigest createSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.ahmadda.infra.notification.push;
 
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import com.google.firebase.ErrorCode;
 import com.google.firebase.messaging.MessagingErrorCode;
-import com.google.firebase.messaging.SendResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -27,34 +30,100 @@ public class FcmPushErrorHandler {
             MessagingErrorCode.QUOTA_EXCEEDED,
             MessagingErrorCode.INTERNAL
     );
+    private static final Set<ErrorCode> RETRYABLE_REQUEST_ERRORS = Set.of(
+            ErrorCode.UNAVAILABLE,
+            ErrorCode.RESOURCE_EXHAUSTED,
+            ErrorCode.INTERNAL,
+            ErrorCode.DEADLINE_EXCEEDED
+    );
 
     private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private final FcmPushRetryQueue fcmPushRetryQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 여러 배치의 응답을 모아서 받으며, responses 와 registrationTokens 는 같은 순서로 짝지어져 있어야 한다.
+     * 유효하지 않은 토큰은 삭제하고, 일시적인 오류로 실패한 토큰은 재시도 대상으로 등록해 돌려준다.
+     */
     @Transactional
-    public void handleFailures(final BatchResponse response, final List<String> registrationTokens) {
-        List<SendResponse> responses = response.getResponses();
+    public List<String> handleFailures(
+            final FcmPushContent content,
+            final List<FcmSendResponse> responses,
+            final List<String> registrationTokens
+    ) {
         List<String> deletableTokens = new ArrayList<>();
+        List<String> retryableTokens = new ArrayList<>();
+        Duration retryAfter = Duration.ZERO;
 
         for (int i = 0; i < responses.size(); i++) {
-            SendResponse sendResponse = responses.get(i);
-            if (sendResponse.isSuccessful()) {
+            FcmSendResponse sendResponse = responses.get(i);
+            if (sendResponse.successful()) {
                 continue;
             }
 
             String registrationToken = registrationTokens.get(i);
-            FirebaseMessagingException exception = sendResponse.getException();
-            MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+            MessagingErrorCode errorCode = sendResponse.errorCode();
 
-            if (DELETABLE_ERRORS.contains(errorCode)) {
+            if (isDeletable(errorCode)) {
                 deletableTokens.add(registrationToken);
-            } else if (RETRYABLE_ERRORS.contains(errorCode)) {
-                // TODO: 추후 지수 백오프를 이용한 재시도 로직 구현
+            } else if (errorCode != null && RETRYABLE_ERRORS.contains(errorCode)) {
+                retryableTokens.add(registrationToken);
+                retryAfter = longer(retryAfter, sendResponse.retryAfter());
             }
             log.warn("fcmPushError - token: {}, error: {}", registrationToken, errorCode);
         }
 
         if (!deletableTokens.isEmpty()) {
-            fcmRegistrationTokenRepository.deleteAllByRegistrationTokenIn(deletableTokens);
+            deleteRegistrationTokens(deletableTokens);
+        }
+        if (!retryableTokens.isEmpty()) {
+            fcmPushRetryQueue.schedule(content, retryableTokens, retryAfter);
         }
+
+        return retryableTokens;
+    }
+
+    /**
+     * 배치 요청 자체가 실패했을 때 일시적인 오류면 배치의 모든 토큰을 재시도 대상으로 등록해 돌려준다.
+     */
+    @Transactional
+    public List<String> handleBatchFailure(
+            final FcmPushContent content,
+            final List<String> registrationTokens,
+            final FcmMulticastException exception
+    ) {
+        ErrorCode errorCode = exception.getErrorCode();
+        if (errorCode == null || !RETRYABLE_REQUEST_ERRORS.contains(errorCode)) {
+            return List.of();
+        }
+
+        fcmPushRetryQueue.schedule(content, registrationTokens, exception.getRetryAfter());
+
+        return registrationTokens;
+    }
+
+    /**
+     * 토큰이 더는 유효하지 않아 삭제해야 하는 오류인지 확인한다.
+     */
+    static boolean isDeletable(@Nullable final MessagingErrorCode errorCode) {
+        return errorCode != null && DELETABLE_ERRORS.contains(errorCode);
+    }
+
+    private void deleteRegistrationTokens(final List<String> deletableTokens) {
+        List<FcmRegistrationToken> registrationTokens =
+                fcmRegistrationTokenRepository.findAllByRegistrationTokenIn(deletableTokens);
+        if (registrationTokens.isEmpty()) {
+            return;
+        }
+
+        fcmRegistrationTokenRepository.deleteAllInBatch(registrationTokens);
+        Set<Long> memberIds = registrationTokens.stream()
+                .map(FcmRegistrationToken::getMemberId)
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new FcmRegistrationTokenChanged(memberIds));
+    }
+
+    private Duration longer(final Duration first, final Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
     }
 }
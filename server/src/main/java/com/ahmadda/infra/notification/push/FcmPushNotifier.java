@@ -4,23 +4,62 @@ import com.ahmadda.domain.notification.PushNotificationPayload;
 import com.ahmadda.domain.notification.PushNotifier;
 import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.infra.notification.config.NotificationProperties;
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.MulticastMessage;
-import lombok.RequiredArgsConstructor;
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.scheduling.annotation.Async;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * 회원들의 FCM 토큰으로 푸시 알림을 보낸다.
+ * <p>
+ * FCM 멀티캐스트는 한 번에 500개 토큰까지만 보낼 수 있으므로 토큰을 500개 단위 배치로 나누어 batchExecutor 에서 동시에 보내고,
+ * 모든 배치의 응답을 모아 한 번에 실패 토큰을 처리한다. 일시적인 오류로 실패한 토큰은 FcmPushRetryScheduler 가 다시 보낸다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class FcmPushNotifier implements PushNotifier {
 
-    private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private static final int MAX_TOKENS_PER_MULTICAST = 500;
+
+    private final FcmMessagingGateway fcmMessagingGateway;
+    private final FcmRegistrationTokenCache fcmRegistrationTokenCache;
     private final FcmPushErrorHandler fcmPushErrorHandler;
     private final NotificationProperties notificationProperties;
+    private final Executor batchExecutor;
+    private final Timer batchTimer;
+    private final Timer failureHandlingTimer;
+    private final DistributionSummary batchFailureRatio;
+
+    public FcmPushNotifier(
+            final FcmMessagingGateway fcmMessagingGateway,
+            final FcmRegistrationTokenCache fcmRegistrationTokenCache,
+            final FcmPushErrorHandler fcmPushErrorHandler,
+            final NotificationProperties notificationProperties,
+            final Executor batchExecutor,
+            final MeterRegistry meterRegistry
+    ) {
+        this.fcmMessagingGateway = fcmMessagingGateway;
+        this.fcmRegistrationTokenCache = fcmRegistrationTokenCache;
+        this.fcmPushErrorHandler = fcmPushErrorHandler;
+        this.notificationProperties = notificationProperties;
+        this.batchExecutor = batchExecutor;
+        this.batchTimer = Timer.builder("push.fcm.batch")
+                .description("FCM 멀티캐스트 배치 하나를 보내는 데 걸린 시간")
+                .register(meterRegistry);
+        this.failureHandlingTimer = Timer.builder("push.fcm.failure.handling")
+                .description("FCM 발송 실패 토큰을 삭제하거나 재시도 대상으로 등록하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchFailureRatio = DistributionSummary.builder("push.fcm.batch.failure.ratio")
+                .description("FCM 멀티캐스트 배치에서 실패한 토큰의 비율")
+                .register(meterRegistry);
+    }
 
     @Async
     @Override
@@ -33,14 +72,21 @@ public class FcmPushNotifier implements PushNotifier {
         }
 
         List<String> registrationTokens = getRegistrationTokens(recipients);
-        sendMulticast(pushNotificationPayload, registrationTokens);
+        sendMulticast(createContent(pushNotificationPayload), registrationTokens);
     }
 
     @Async
     @Override
     public void poke(final OrganizationMember recipient, final PushNotificationPayload pushNotificationPayload) {
         List<String> registrationTokens = getRegistrationTokens(recipient);
-        sendMulticast(pushNotificationPayload, registrationTokens);
+        sendMulticast(createContent(pushNotificationPayload), registrationTokens);
+    }
+
+    /**
+     * 재시도 대상 토큰에 같은 내용을 다시 보내고, 또다시 일시적인 오류로 실패해 재시도 대상으로 남은 토큰을 돌려준다.
+     */
+    public List<String> resend(final FcmPushContent content, final List<String> registrationTokens) {
+        return sendMulticast(content, registrationTokens);
     }
 
     private List<String> getRegistrationTokens(final List<OrganizationMember> recipients) {
@@ -49,57 +95,103 @@ public class FcmPushNotifier implements PushNotifier {
                         .getId())
                 .toList();
 
-        return fcmRegistrationTokenRepository.findAllByMemberIdIn(memberIds)
-                .stream()
-                .map(FcmRegistrationToken::getRegistrationToken)
-                .distinct()
-                .toList();
+        return fcmRegistrationTokenCache.getRegistrationTokens(memberIds);
     }
 
     private List<String> getRegistrationTokens(final OrganizationMember recipient) {
         Long memberId = recipient.getMember()
                 .getId();
 
-        return fcmRegistrationTokenRepository.findAllByMemberId(memberId)
-                .stream()
-                .map(FcmRegistrationToken::getRegistrationToken)
-                .distinct()
-                .toList();
+        return fcmRegistrationTokenCache.getRegistrationTokens(memberId);
     }
 
-    private MulticastMessage createMulticastMessage(
-            final List<String> recipientPushTokens,
-            final PushNotificationPayload payload
-    ) {
-        return MulticastMessage.builder()
-                .addAllTokens(recipientPushTokens)
-                .putData("title", payload.title())
-                .putData("body", payload.body())
-                .putData(
-                        "redirectUrl",
-                        notificationProperties.getRedirectUrlPrefix()
-                                + payload.organizationId() + "/event/" + payload.eventId()
-                )
-                .build();
+    private FcmPushContent createContent(final PushNotificationPayload payload) {
+        return new FcmPushContent(
+                payload.title(),
+                payload.body(),
+                notificationProperties.getRedirectUrlPrefix() + payload.organizationId() + "/event/" + payload.eventId()
+        );
     }
 
-    private void sendMulticast(
-            final PushNotificationPayload pushNotificationPayload,
-            final List<String> registrationTokens
-    ) {
+    private List<String> sendMulticast(final FcmPushContent content, final List<String> registrationTokens) {
         if (registrationTokens.isEmpty()) {
-            return;
+            return List.of();
+        }
+
+        List<CompletableFuture<BatchResult>> futures = new ArrayList<>();
+        for (int i = 0; i < registrationTokens.size(); i += MAX_TOKENS_PER_MULTICAST) {
+            int end = Math.min(i + MAX_TOKENS_PER_MULTICAST, registrationTokens.size());
+            List<String> batchTokens = registrationTokens.subList(i, end);
+
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(content, batchTokens), batchExecutor));
         }
 
-        MulticastMessage message = createMulticastMessage(registrationTokens, pushNotificationPayload);
+        return handleBatchResults(content, futures);
+    }
+
+    private BatchResult sendBatch(final FcmPushContent content, final List<String> tokens) {
+        Timer.Sample sample = Timer.start();
         try {
-            // TODO. 추후 한번에 500개 이상의 토큰을 처리한다면 배치 처리를 고려해야 함
-            BatchResponse batchResponse = FirebaseMessaging.getInstance()
-                    .sendEachForMulticast(message);
+            List<FcmSendResponse> responses = fcmMessagingGateway.sendMulticast(content, tokens);
+            long failureCount = responses.stream()
+                    .filter(response -> !response.successful())
+                    .count();
+            batchFailureRatio.record((double) failureCount / tokens.size());
+
+            return BatchResult.completed(tokens, responses);
+        } catch (FcmMulticastException e) {
+            batchFailureRatio.record(1.0);
+            log.error("fcmMulticastPushError - tokenCount: {}, cause: {}", tokens.size(), e.getMessage(), e);
+
+            return BatchResult.failed(tokens, e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private List<String> handleBatchResults(
+            final FcmPushContent content,
+            final List<CompletableFuture<BatchResult>> futures
+    ) {
+        List<String> rescheduledTokens = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        List<FcmSendResponse> responses = new ArrayList<>();
+        for (CompletableFuture<BatchResult> future : futures) {
+            BatchResult result = future.join();
+            if (result.failure() != null) {
+                rescheduledTokens.addAll(failureHandlingTimer.record(
+                        () -> fcmPushErrorHandler.handleBatchFailure(content, result.tokens(), result.failure())
+                ));
+                continue;
+            }
+            tokens.addAll(result.tokens());
+            responses.addAll(result.responses());
+        }
+
+        // 모든 토큰에 성공했으면 실패 처리 트랜잭션을 열지 않는다.
+        boolean hasFailure = responses.stream()
+                .anyMatch(response -> !response.successful());
+        if (hasFailure) {
+            rescheduledTokens.addAll(failureHandlingTimer.record(
+                    () -> fcmPushErrorHandler.handleFailures(content, responses, tokens)
+            ));
+        }
+
+        return rescheduledTokens;
+    }
+
+    private record BatchResult(
+            List<String> tokens,
+            List<FcmSendResponse> responses,
+            @Nullable FcmMulticastException failure
+    ) {
+
+        static BatchResult completed(final List<String> tokens, final List<FcmSendResponse> responses) {
+            return new BatchResult(tokens, responses, null);
+        }
 
-            fcmPushErrorHandler.handleFailures(batchResponse, registrationTokens);
-        } catch (FirebaseMessagingException e) {
-            log.error("fcmMulticastPushError: {}", e.getMessage(), e);
+        static BatchResult failed(final List<String> tokens, final FcmMulticastException failure) {
+            return new BatchResult(tokens, List.of(), failure);
         }
     }
 }
@@ -0,0 +1,129 @@
+package com.ahmadda.infra.notification.push;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일시적인 오류로 보내지 못한 푸시를 토큰 단위로 보관하고, 지터를 섞은 지수 백오프로 다시 보낸다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_fcm_push_retry__content_hash__registration_token",
+        columnNames = {"content_hash", "registration_token"}
+))
+public class FcmPushRetry {
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "fcm_push_retry_id")
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "registration_token", nullable = false)
+    private String registrationToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private String redirectUrl;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private FcmPushRetry(
+            final FcmPushContent content,
+            final String registrationToken,
+            final LocalDateTime nextAttemptAt,
+            final LocalDateTime createdAt
+    ) {
+        this.contentHash = content.hash();
+        this.registrationToken = registrationToken;
+        this.title = content.title();
+        this.body = content.body();
+        this.redirectUrl = content.redirectUrl();
+        this.attemptCount = 0;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 처음 실패한 토큰의 재시도를 만든다. FCM 이 Retry-After 를 알려 주면 그보다 먼저 보내지 않는다.
+     */
+    public static FcmPushRetry create(
+            final FcmPushContent content,
+            final String registrationToken,
+            final Duration retryAfter
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return new FcmPushRetry(content, registrationToken, later(now.plus(backoff(1)), now.plus(retryAfter)), now);
+    }
+
+    /**
+     * n번째 재시도까지 기다리는 시간. 30초에서 시작해 두 배씩 늘리고 30분을 넘기지 않으며,
+     * 같은 시각에 실패한 토큰들이 한꺼번에 몰리지 않도록 절반에서 전체 사이의 임의 시간을 고른다.
+     */
+    static Duration backoff(final int attemptCount) {
+        int exponent = Math.min(attemptCount - 1, 16);
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+
+        long halfMillis = backoff.toMillis() / 2;
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current()
+                .nextLong(halfMillis + 1));
+    }
+
+    private static LocalDateTime later(final LocalDateTime first, final LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    public FcmPushContent getContent() {
+        return new FcmPushContent(title, body, redirectUrl);
+    }
+
+    public boolean isRetryExhausted() {
+        return attemptCount >= MAX_ATTEMPTS;
+    }
+
+    /**
+     * 재시도를 시작하면서 시도 횟수를 늘리고, 이번 시도가 끝나지 않을 경우에 대비해 다음 시도 일시를 미룬다.
+     */
+    public void startAttempt() {
+        attemptCount++;
+        nextAttemptAt = LocalDateTime.now()
+                .plus(backoff(attemptCount + 1));
+    }
+}
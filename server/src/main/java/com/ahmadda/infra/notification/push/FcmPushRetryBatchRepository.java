@@ -0,0 +1,13 @@
+package com.ahmadda.infra.notification.push;
+
+import java.util.List;
+
+public interface FcmPushRetryBatchRepository {
+
+    /**
+     * 재시도를 토큰마다 하나의 JDBC 배치로 등록하고, 이미 등록된 토큰이면 새로 만들지 않고 다음 시도 일시만 미룬다.
+     *
+     * @param retries 등록할 재시도 목록
+     */
+    void upsertRetries(List<FcmPushRetry> retries);
+}
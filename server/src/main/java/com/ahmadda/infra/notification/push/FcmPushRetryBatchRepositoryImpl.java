@@ -0,0 +1,53 @@
+package com.ahmadda.infra.notification.push;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FcmPushRetryBatchRepositoryImpl implements FcmPushRetryBatchRepository {
+
+    /**
+     * 처음 실패한 토큰은 재시도를 등록하고, 이미 등록된 토큰은 다음 시도 일시를 새 값보다 앞서지 않도록 미룬다.
+     * 존재 확인 없이 한 문장으로 처리하므로 같은 토큰을 동시에 등록해도 유니크 키 충돌이 나지 않는다.
+     */
+    private static final String UPSERT_RETRY_SQL = """
+            INSERT INTO fcm_push_retry (
+                content_hash, registration_token, title, body, redirect_url, attempt_count, next_attempt_at, created_at
+            )
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE next_attempt_at = GREATEST(next_attempt_at, VALUES(next_attempt_at))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 등록된 토큰의 다음 시도 일시는 새 재시도의 다음 시도 일시 이후로 미룬다.
+     * 여러 트랜잭션이 같은 토큰을 동시에 등록하면 MySQL 에서 잠금 대기나 교착 상태로 문장이 실패할 수 있고,
+     * 이때는 호출한 트랜잭션 전체가 롤백되므로 토큰 삭제와 같은 나머지 작업도 함께 되돌려진다.
+     */
+    @Override
+    public void upsertRetries(final List<FcmPushRetry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                UPSERT_RETRY_SQL,
+                retries,
+                retries.size(),
+                (preparedStatement, retry) -> {
+                    preparedStatement.setString(1, retry.getContentHash());
+                    preparedStatement.setString(2, retry.getRegistrationToken());
+                    preparedStatement.setString(3, retry.getTitle());
+                    preparedStatement.setString(4, retry.getBody());
+                    preparedStatement.setString(5, retry.getRedirectUrl());
+                    preparedStatement.setInt(6, retry.getAttemptCount());
+                    preparedStatement.setTimestamp(7, Timestamp.valueOf(retry.getNextAttemptAt()));
+                    preparedStatement.setTimestamp(8, Timestamp.valueOf(retry.getCreatedAt()));
+                }
+        );
+    }
+}
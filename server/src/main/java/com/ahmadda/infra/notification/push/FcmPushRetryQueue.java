@@ -0,0 +1,78 @@
+package com.ahmadda.infra.notification.push;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmPushRetryQueue {
+
+    private final FcmPushRetryRepository fcmPushRetryRepository;
+
+    /**
+     * 일시적인 오류로 실패한 토큰을 재시도 대상으로 등록한다. 이미 재시도 중인 토큰이면 Retry-After 만큼 다음 시도를 미룬다.
+     * 같은 토큰이 동시에 실패해도 유니크 키 충돌이 나지 않도록 INSERT ... ON DUPLICATE KEY UPDATE 로 등록한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(
+            final FcmPushContent content,
+            final List<String> registrationTokens,
+            final Duration retryAfter
+    ) {
+        // 같은 토큰들을 동시에 등록하는 트랜잭션끼리 같은 순서로 잠그도록 토큰 순으로 정렬한다.
+        List<FcmPushRetry> retries = registrationTokens.stream()
+                .distinct()
+                .sorted()
+                .map(registrationToken -> FcmPushRetry.create(content, registrationToken, retryAfter))
+                .toList();
+
+        fcmPushRetryRepository.upsertRetries(retries);
+    }
+
+    /**
+     * 다음 시도 일시가 지난 재시도를 최대 limit건 잠그고 시도 횟수와 다음 시도 일시를 갱신해 돌려준다.
+     * 최대 시도 횟수를 채운 재시도는 더 보내지 않고 삭제한다.
+     */
+    @Transactional
+    public List<FcmPushRetry> claimDue(final LocalDateTime now, final int limit) {
+        List<FcmPushRetry> claimed = new ArrayList<>();
+        for (FcmPushRetry retry : fcmPushRetryRepository.findAndLockDueRetries(now, limit)) {
+            if (retry.isRetryExhausted()) {
+                log.warn(
+                        "fcmPushRetryExhausted - token: {}, attemptCount: {}",
+                        retry.getRegistrationToken(),
+                        retry.getAttemptCount()
+                );
+                fcmPushRetryRepository.delete(retry);
+                continue;
+            }
+
+            retry.startAttempt();
+            claimed.add(retry);
+        }
+
+        return claimed;
+    }
+
+    /**
+     * 더 재시도할 필요가 없는 토큰(성공했거나 재시도할 수 없는 오류로 실패한 토큰)을 재시도 대상에서 뺀다.
+     */
+    @Transactional
+    public void complete(final FcmPushContent content, final Collection<String> registrationTokens) {
+        if (registrationTokens.isEmpty()) {
+            return;
+        }
+
+        fcmPushRetryRepository.deleteAllByContentHashAndRegistrationTokenIn(content.hash(), registrationTokens);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ahmadda.infra.notification.push;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FcmPushRetryRepository extends JpaRepository<FcmPushRetry, Long>, FcmPushRetryBatchRepository {
+
+    /**
+     * 다음 시도 일시가 지난 재시도를 조회하고 잠근다.
+     * FOR UPDATE SKIP LOCKED로 여러 서버가 같은 재시도를 중복으로 보내지 않도록 한다.
+     */
+    @Query(value = """
+            select *
+            from fcm_push_retry r
+            where r.next_attempt_at <= :now
+            order by r.next_attempt_at
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<FcmPushRetry> findAndLockDueRetries(final LocalDateTime now, final int limit);
+
+    @Modifying
+    @Query("""
+            delete from FcmPushRetry r
+            where r.contentHash = :contentHash
+              and r.registrationToken in :registrationTokens
+            """)
+    int deleteAllByContentHashAndRegistrationTokenIn(
+            final String contentHash,
+            final Collection<String> registrationTokens
+    );
+}
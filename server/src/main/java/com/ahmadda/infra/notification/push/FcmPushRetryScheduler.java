@@ -0,0 +1,48 @@
+package com.ahmadda.infra.notification.push;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class FcmPushRetryScheduler {
+
+    private static final int CLAIM_SIZE = 1000;
+
+    private final FcmPushRetryQueue fcmPushRetryQueue;
+    private final FcmPushNotifier fcmPushNotifier;
+
+    /**
+     * 다음 시도 일시가 지난 재시도를 같은 내용끼리 묶어 멀티캐스트로 다시 보낸다.
+     * 다시 일시적인 오류로 실패한 토큰은 재시도 대상으로 남기고, 나머지는 재시도 대상에서 뺀다.
+     */
+    @Scheduled(fixedRate = 30 * 1000)
+    public void resendFailedPushes() {
+        List<FcmPushRetry> retries = fcmPushRetryQueue.claimDue(LocalDateTime.now(), CLAIM_SIZE);
+
+        Map<FcmPushContent, List<String>> tokensByContent = retries.stream()
+                .collect(Collectors.groupingBy(
+                        FcmPushRetry::getContent,
+                        LinkedHashMap::new,
+                        Collectors.mapping(FcmPushRetry::getRegistrationToken, Collectors.toList())
+                ));
+
+        tokensByContent.forEach((content, registrationTokens) -> {
+            Set<String> rescheduledTokens = new HashSet<>(fcmPushNotifier.resend(content, registrationTokens));
+            List<String> finishedTokens = registrationTokens.stream()
+                    .filter(token -> !rescheduledTokens.contains(token))
+                    .toList();
+
+            fcmPushRetryQueue.complete(content, finishedTokens);
+        });
+    }
+}
@@ -55,4 +55,11 @@ public class FcmRegistrationToken {
     ) {
         return new FcmRegistrationToken(memberId, registrationToken, LocalDateTime.now());
     }
+
+    /**
+     * 같은 토큰이 다시 등록되면 갱신 시각을 지금으로 바꾸어, 오래 갱신되지 않은 토큰만 정리 대상이 되게 한다.
+     */
+    public void refreshNow() {
+        this.timeStamp = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,112 @@
+package com.ahmadda.infra.notification.push;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원별 FCM 등록 토큰 목록을 보관하는 로컬 캐시.
+ * <p>
+ * 리마인더와 찌르기는 보낼 때마다 수신자의 토큰을 조회하지만 토큰은 거의 바뀌지 않으므로, 캐시에 없는 회원만 한 번의 쿼리로 모아서 읽는다.
+ * 토큰이 없는 회원도 빈 목록으로 보관해 다시 조회하지 않는다.
+ * 토큰 등록과 삭제는 커밋 이후 즉시 무효화하고, 다른 인스턴스에서의 변경은 TTL 만료로 반영한다.
+ * <p>
+ * 일괄 조회 중에 무효화가 일어나면 이미 읽은 이전 토큰 목록이 TTL 동안 남을 수 있으므로, 조회할 회원의 자리를 먼저 잡아 두는
+ * AsyncLoadingCache 로 만든다. 조회 중에 무효화된 회원의 결과는 캐시에 넣지 않으며, 조회는 호출한 스레드에서 실행한다.
+ */
+@Component
+public class FcmRegistrationTokenCache {
+
+    private static final int MAXIMUM_SIZE = 50_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private final LoadingCache<Long, List<String>> cache;
+
+    public FcmRegistrationTokenCache(
+            final FcmRegistrationTokenRepository fcmRegistrationTokenRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        this.fcmRegistrationTokenRepository = fcmRegistrationTokenRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync(new CacheLoader<Long, List<String>>() {
+
+                    @Override
+                    public List<String> load(final Long memberId) {
+                        return FcmRegistrationTokenCache.this.load(memberId);
+                    }
+
+                    @Override
+                    public Map<Long, List<String>> loadAll(final Set<? extends Long> memberIds) {
+                        return FcmRegistrationTokenCache.this.loadAll(memberIds);
+                    }
+                })
+                .synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "fcmRegistrationTokens");
+    }
+
+    public List<String> getRegistrationTokens(final List<Long> memberIds) {
+        Set<String> registrationTokens = new LinkedHashSet<>();
+        cache.getAll(memberIds)
+                .values()
+                .forEach(registrationTokens::addAll);
+
+        return List.copyOf(registrationTokens);
+    }
+
+    public List<String> getRegistrationTokens(final Long memberId) {
+        return cache.get(memberId);
+    }
+
+    public void invalidate(final Collection<Long> memberIds) {
+        cache.invalidateAll(memberIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFcmRegistrationTokenChanged(final FcmRegistrationTokenChanged fcmRegistrationTokenChanged) {
+        invalidate(fcmRegistrationTokenChanged.memberIds());
+    }
+
+    private List<String> load(final Long memberId) {
+        return fcmRegistrationTokenRepository.findAllByMemberId(memberId)
+                .stream()
+                .map(FcmRegistrationToken::getRegistrationToken)
+                .distinct()
+                .toList();
+    }
+
+    private Map<Long, List<String>> loadAll(final Set<? extends Long> memberIds) {
+        Map<Long, List<String>> registrationTokensByMemberId = new HashMap<>();
+        for (Long memberId : memberIds) {
+            registrationTokensByMemberId.put(memberId, new ArrayList<>());
+        }
+
+        List<FcmRegistrationToken> tokens = fcmRegistrationTokenRepository.findAllByMemberIdIn(List.copyOf(memberIds));
+        for (FcmRegistrationToken registrationToken : tokens) {
+            List<String> registrationTokens = registrationTokensByMemberId.get(registrationToken.getMemberId());
+            if (!registrationTokens.contains(registrationToken.getRegistrationToken())) {
+                registrationTokens.add(registrationToken.getRegistrationToken());
+            }
+        }
+
+        registrationTokensByMemberId.replaceAll((memberId, registrationTokens) -> List.copyOf(registrationTokens));
+        return registrationTokensByMemberId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ahmadda.infra.notification.push;
+
+import java.util.Set;
+
+public record FcmRegistrationTokenChanged(Set<Long> memberIds) {
+
+    public static FcmRegistrationTokenChanged from(final Long memberId) {
+        return new FcmRegistrationTokenChanged(Set.of(memberId));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.infra.notification.push.config.FcmRegistrationTokenPruningProperties;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 만료 기간 동안 다시 등록되지 않은 FCM 토큰을 정리한다.
+ * <p>
+ * 버려진 브라우저의 토큰은 FCM 이 UNREGISTERED 로 응답하기 전까지 남아 모든 멀티캐스트를 부풀리므로, 갱신 시각 기준으로 오래된 토큰을
+ * 한 번에 최대 500개씩 지운다. 드라이런 확인을 켜면 FCM 이 아직 받는 토큰은 지우지 않고 갱신 시각을 지금으로 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmRegistrationTokenExpirationCleaner {
+
+    // FCM 멀티캐스트 한 번으로 드라이런 확인할 수 있는 최대 토큰 수와 같다.
+    private static final int MAX_TO_PRUNE_IN_ONE_BATCH = 500;
+
+    private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private final FcmRegistrationTokenValidator fcmRegistrationTokenValidator;
+    private final FcmRegistrationTokenPruneWriter fcmRegistrationTokenPruneWriter;
+    private final FcmRegistrationTokenPruningProperties pruningProperties;
+
+    @Scheduled(cron = "0 0 5 * * *")
+    @SchedulerLock(
+            name = "pruneStaleFcmRegistrationTokens",
+            lockAtLeastFor = "5m",
+            lockAtMostFor = "30m"
+    )
+    public void pruneStaleRegistrationTokens() {
+        LocalDateTime threshold = LocalDateTime.now()
+                .minus(pruningProperties.getExpireAfter());
+
+        boolean hasMore;
+        do {
+            hasMore = pruneBatch(threshold);
+        } while (hasMore);
+    }
+
+    private boolean pruneBatch(final LocalDateTime threshold) {
+        List<FcmRegistrationToken> staleTokens =
+                fcmRegistrationTokenRepository.findAllByTimeStampBeforeOrderByTimeStampAsc(
+                        threshold,
+                        Limit.of(MAX_TO_PRUNE_IN_ONE_BATCH)
+                );
+        if (staleTokens.isEmpty()) {
+            return false;
+        }
+
+        if (!pruningProperties.isValidateWithDryRun()) {
+            fcmRegistrationTokenPruneWriter.write(List.of(), staleTokens);
+            return staleTokens.size() == MAX_TO_PRUNE_IN_ONE_BATCH;
+        }
+
+        FcmRegistrationTokenValidator.ValidationResult result = fcmRegistrationTokenValidator.validate(
+                staleTokens.stream()
+                        .map(FcmRegistrationToken::getRegistrationToken)
+                        .distinct()
+                        .toList()
+        );
+        fcmRegistrationTokenPruneWriter.write(
+                filterByRegistrationToken(staleTokens, result.acceptedTokens()),
+                filterByRegistrationToken(staleTokens, result.rejectedTokens())
+        );
+
+        // 확인하지 못한 토큰이 남아 있으면 같은 토큰을 다시 조회하게 되므로 다음 실행으로 미룬다.
+        return !result.interrupted() && staleTokens.size() == MAX_TO_PRUNE_IN_ONE_BATCH;
+    }
+
+    private List<FcmRegistrationToken> filterByRegistrationToken(
+            final List<FcmRegistrationToken> registrationTokens,
+            final Set<String> tokenValues
+    ) {
+        return registrationTokens.stream()
+                .filter(registrationToken -> tokenValues.contains(registrationToken.getRegistrationToken()))
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ahmadda.infra.notification.push;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 토큰 한 배치의 정리 결과를 하나의 트랜잭션으로 반영한다.
+ * 드라이런 확인은 FCM 호출이 끝날 때까지 트랜잭션을 붙잡지 않도록 이 트랜잭션 밖에서 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class FcmRegistrationTokenPruneWriter {
+
+    private final FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * FCM 이 아직 받는 토큰은 갱신 시각을 지금으로 바꾸고, 만료된 토큰은 삭제한 뒤 커밋 이후 캐시를 무효화한다.
+     */
+    @Transactional
+    public void write(
+            final List<FcmRegistrationToken> tokensToRefresh,
+            final List<FcmRegistrationToken> tokensToDelete
+    ) {
+        refresh(tokensToRefresh);
+        delete(tokensToDelete);
+    }
+
+    private void refresh(final List<FcmRegistrationToken> registrationTokens) {
+        if (registrationTokens.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = registrationTokens.stream()
+                .map(FcmRegistrationToken::getId)
+                .toList();
+        fcmRegistrationTokenRepository.updateTimeStampByIdIn(ids, LocalDateTime.now());
+    }
+
+    private void delete(final List<FcmRegistrationToken> registrationTokens) {
+        if (registrationTokens.isEmpty()) {
+            return;
+        }
+
+        fcmRegistrationTokenRepository.deleteAllInBatch(registrationTokens);
+        Set<Long> memberIds = registrationTokens.stream()
+                .map(FcmRegistrationToken::getMemberId)
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new FcmRegistrationTokenChanged(memberIds));
+        log.info(
+                "fcmRegistrationTokensPruned - tokenCount: {}, memberCount: {}",
+                registrationTokens.size(),
+                memberIds.size()
+        );
+    }
+}
@@ -1,7 +1,12 @@
 package com.ahmadda.infra.notification.push;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +21,18 @@ public interface FcmRegistrationTokenRepository extends JpaRepository<FcmRegistr
 
     List<FcmRegistrationToken> findAllByMemberId(final Long memberId);
 
-    void deleteAllByRegistrationTokenIn(final List<String> registrationTokens);
+    List<FcmRegistrationToken> findAllByRegistrationTokenIn(final List<String> registrationTokens);
+
+    List<FcmRegistrationToken> findAllByTimeStampBeforeOrderByTimeStampAsc(
+            final LocalDateTime threshold,
+            final Limit limit
+    );
+
+    @Modifying
+    @Query("""
+            update FcmRegistrationToken t
+            set t.timeStamp = :timeStamp
+            where t.id in :ids
+            """)
+    int updateTimeStampByIdIn(final Collection<Long> ids, final LocalDateTime timeStamp);
 }
@@ -0,0 +1,56 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FCM 드라이런 발송으로 토큰이 아직 유효한지 확인한다. 드라이런은 실제 기기로 메시지를 전달하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmRegistrationTokenValidator {
+
+    private final FcmMessagingGateway fcmMessagingGateway;
+
+    /**
+     * 최대 500개의 토큰을 한 번의 멀티캐스트로 확인한다.
+     * 일시적인 오류로 확인하지 못한 토큰은 유효/무효 어느 쪽에도 넣지 않고 interrupted 로 알린다.
+     */
+    public ValidationResult validate(final List<String> registrationTokens) {
+        List<FcmSendResponse> responses;
+        try {
+            responses = fcmMessagingGateway.validate(registrationTokens);
+        } catch (FcmMulticastException e) {
+            log.warn("fcmTokenValidationError - tokenCount: {}, cause: {}", registrationTokens.size(), e.getMessage());
+            return new ValidationResult(Set.of(), Set.of(), true);
+        }
+
+        Set<String> acceptedTokens = new HashSet<>();
+        Set<String> rejectedTokens = new HashSet<>();
+        boolean interrupted = false;
+        for (int i = 0; i < responses.size(); i++) {
+            FcmSendResponse response = responses.get(i);
+            String registrationToken = registrationTokens.get(i);
+            if (response.successful()) {
+                acceptedTokens.add(registrationToken);
+            } else if (FcmPushErrorHandler.isDeletable(response.errorCode())) {
+                rejectedTokens.add(registrationToken);
+            } else {
+                interrupted = true;
+            }
+        }
+
+        return new ValidationResult(acceptedTokens, rejectedTokens, interrupted);
+    }
+
+    public record ValidationResult(Set<String> acceptedTokens, Set<String> rejectedTokens, boolean interrupted) {
+
+    }
+}
@@ -0,0 +1,27 @@
+package com.ahmadda.infra.notification.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 멀티캐스트에서 토큰 하나에 보낸 결과. 실패하면 FCM 오류 코드와 Retry-After 로 받은 대기 시간을 담는다.
+ */
+public record FcmSendResponse(
+        boolean successful,
+        @Nullable MessagingErrorCode errorCode,
+        Duration retryAfter
+) {
+
+    public static FcmSendResponse success() {
+        return new FcmSendResponse(true, null, Duration.ZERO);
+    }
+
+    public static FcmSendResponse failure(
+            @Nullable final MessagingErrorCode errorCode,
+            final Duration retryAfter
+    ) {
+        return new FcmSendResponse(false, errorCode, retryAfter);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import com.google.firebase.IncomingHttpResponse;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Firebase Admin SDK 로 실제 FCM 에 보내고, SDK 의 응답과 예외를 FcmSendResponse, FcmMulticastException 으로 바꾼다.
+ */
+@Slf4j
+public class FirebaseFcmMessagingGateway implements FcmMessagingGateway {
+
+    private static final String RETRY_AFTER_HEADER = "retry-after";
+
+    @Override
+    public List<FcmSendResponse> sendMulticast(final FcmPushContent content, final List<String> registrationTokens) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(registrationTokens)
+                .putData("title", content.title())
+                .putData("body", content.body())
+                .putData("redirectUrl", content.redirectUrl())
+                .build();
+
+        return send(message, false);
+    }
+
+    @Override
+    public List<FcmSendResponse> validate(final List<String> registrationTokens) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(registrationTokens)
+                .build();
+
+        return send(message, true);
+    }
+
+    private List<FcmSendResponse> send(final MulticastMessage message, final boolean dryRun) {
+        try {
+            BatchResponse batchResponse = FirebaseMessaging.getInstance()
+                    .sendEachForMulticast(message, dryRun);
+
+            return batchResponse.getResponses()
+                    .stream()
+                    .map(this::toSendResponse)
+                    .toList();
+        } catch (FirebaseMessagingException e) {
+            throw new FcmMulticastException(e.getMessage(), e.getErrorCode(), parseRetryAfter(e), e);
+        }
+    }
+
+    private FcmSendResponse toSendResponse(final SendResponse sendResponse) {
+        if (sendResponse.isSuccessful()) {
+            return FcmSendResponse.success();
+        }
+
+        FirebaseMessagingException exception = sendResponse.getException();
+        return FcmSendResponse.failure(exception.getMessagingErrorCode(), parseRetryAfter(exception));
+    }
+
+    private Duration parseRetryAfter(final FirebaseMessagingException exception) {
+        IncomingHttpResponse response = exception.getHttpResponse();
+        if (response == null) {
+            return Duration.ZERO;
+        }
+
+        String retryAfter = findHeader(response.getHeaders());
+        if (retryAfter == null) {
+            return Duration.ZERO;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException ignored) {
+            // Retry-After 는 초 단위 숫자이거나 HTTP 날짜이다.
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration untilRetryAt = Duration.between(ZonedDateTime.now(), retryAt);
+            return untilRetryAt.isNegative() ? Duration.ZERO : untilRetryAt;
+        } catch (DateTimeParseException e) {
+            log.warn("fcmRetryAfterParseError - retryAfter: {}", retryAfter);
+            return Duration.ZERO;
+        }
+    }
+
+    private String findHeader(final Map<String, Object> headers) {
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            if (!RETRY_AFTER_HEADER.equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+
+            Object value = header.getValue();
+            if (value instanceof List<?> values) {
+                return values.isEmpty() ? null : String.valueOf(values.get(0));
+            }
+            return value == null ? null : String.valueOf(value);
+        }
+
+        return null;
+    }
+}
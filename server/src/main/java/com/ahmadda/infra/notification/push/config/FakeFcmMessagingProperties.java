@@ -0,0 +1,46 @@
+package com.ahmadda.infra.notification.push.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "push.fake")
+public class FakeFcmMessagingProperties {
+
+    private final boolean enabled;
+    private final Duration latency;
+    private final double unregisteredRatio;
+    private final double unavailableRatio;
+    private final double quotaExceededRatio;
+
+    public FakeFcmMessagingProperties(
+            final boolean enabled,
+            final Duration latency,
+            final double unregisteredRatio,
+            final double unavailableRatio,
+            final double quotaExceededRatio
+    ) {
+        validateProperties(unregisteredRatio, unavailableRatio, quotaExceededRatio);
+
+        this.enabled = enabled;
+        this.latency = latency == null ? Duration.ZERO : latency;
+        this.unregisteredRatio = unregisteredRatio;
+        this.unavailableRatio = unavailableRatio;
+        this.quotaExceededRatio = quotaExceededRatio;
+    }
+
+    private void validateProperties(
+            final double unregisteredRatio,
+            final double unavailableRatio,
+            final double quotaExceededRatio
+    ) {
+        if (unregisteredRatio < 0 || unavailableRatio < 0 || unregisteredRatio + unavailableRatio > 1) {
+            throw new IllegalArgumentException("토큰별 실패 비율은 0 이상이고 합이 1 이하여야 합니다.");
+        }
+        if (quotaExceededRatio < 0 || quotaExceededRatio > 1) {
+            throw new IllegalArgumentException("할당량 초과 비율은 0 이상 1 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ahmadda.infra.notification.push.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "push.token-pruning")
+public class FcmRegistrationTokenPruningProperties {
+
+    private final Duration expireAfter;
+    private final boolean validateWithDryRun;
+
+    public FcmRegistrationTokenPruningProperties(final Duration expireAfter, final boolean validateWithDryRun) {
+        validateProperties(expireAfter);
+
+        this.expireAfter = expireAfter;
+        this.validateWithDryRun = validateWithDryRun;
+    }
+
+    private void validateProperties(final Duration expireAfter) {
+        if (expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) {
+            throw new IllegalArgumentException("FCM 토큰 만료 기간은 0보다 커야 합니다.");
+        }
+    }
+}
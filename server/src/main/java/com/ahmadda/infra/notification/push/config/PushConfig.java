@@ -1,34 +1,99 @@
 package com.ahmadda.infra.notification.push.config;
 
+import com.ahmadda.common.logging.AsyncTraceLoggingDecorator;
 import com.ahmadda.domain.notification.PushNotifier;
 import com.ahmadda.infra.notification.config.NotificationProperties;
+import com.ahmadda.infra.notification.push.FakeFcmMessagingGateway;
+import com.ahmadda.infra.notification.push.FcmMessagingGateway;
 import com.ahmadda.infra.notification.push.FcmPushErrorHandler;
 import com.ahmadda.infra.notification.push.FcmPushNotifier;
-import com.ahmadda.infra.notification.push.FcmRegistrationTokenRepository;
+import com.ahmadda.infra.notification.push.FcmRegistrationTokenCache;
+import com.ahmadda.infra.notification.push.FirebaseFcmMessagingGateway;
 import com.ahmadda.infra.notification.push.NoopPushNotifier;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-@EnableConfigurationProperties(NotificationProperties.class)
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableConfigurationProperties({
+        NotificationProperties.class,
+        FcmRegistrationTokenPruningProperties.class,
+        FakeFcmMessagingProperties.class
+})
 @Configuration
 public class PushConfig {
 
+    private static final int FCM_BATCH_CONCURRENCY = 4;
+
     @Bean
-    public PushNotifier fcmPushNotifier(
-            final FcmRegistrationTokenRepository fcmRegistrationTokenRepository,
+    public FcmPushNotifier fcmPushNotifier(
+            final FcmMessagingGateway fcmMessagingGateway,
+            final FcmRegistrationTokenCache fcmRegistrationTokenCache,
             final FcmPushErrorHandler fcmPushErrorHandler,
-            final NotificationProperties notificationProperties
+            final NotificationProperties notificationProperties,
+            final ThreadPoolTaskExecutor fcmBatchExecutor,
+            final MeterRegistry meterRegistry
     ) {
         return new FcmPushNotifier(
-                fcmRegistrationTokenRepository,
+                fcmMessagingGateway,
+                fcmRegistrationTokenCache,
                 fcmPushErrorHandler,
-                notificationProperties
+                notificationProperties,
+                fcmBatchExecutor,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "push.fake.enabled", havingValue = "false", matchIfMissing = true)
+    public FcmMessagingGateway firebaseFcmMessagingGateway() {
+        return new FirebaseFcmMessagingGateway();
+    }
+
+    /**
+     * 실제 FCM 대신 지연과 실패를 흉내 내는 로컬 대역으로, 푸시 발송 처리량을 부하 테스트할 때 쓴다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "push.fake.enabled", havingValue = "true")
+    public FakeFcmMessagingGateway fakeFcmMessagingGateway(final FakeFcmMessagingProperties fakeFcmMessagingProperties) {
+        return new FakeFcmMessagingGateway(
+                fakeFcmMessagingProperties.getLatency(),
+                fakeFcmMessagingProperties.getUnregisteredRatio(),
+                fakeFcmMessagingProperties.getUnavailableRatio(),
+                fakeFcmMessagingProperties.getQuotaExceededRatio()
         );
     }
 
+    /**
+     * 500개 단위로 나눈 FCM 멀티캐스트 배치를 동시에 보내는 스레드풀.
+     * <p>
+     * 동시에 보내는 배치 수를 스레드 수로 제한하고, 대기열이 가득 차면 배치를 버리지 않고 호출한 스레드에서 직접 보낸다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fcmBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fcm-batch-");
+        executor.setTaskDecorator(new AsyncTraceLoggingDecorator());
+
+        executor.setCorePoolSize(FCM_BATCH_CONCURRENCY);
+        executor.setMaxPoolSize(FCM_BATCH_CONCURRENCY);
+        executor.setQueueCapacity(100);
+        executor.setKeepAliveSeconds(60);
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     @Primary
     @ConditionalOnProperty(name = "push.noop", havingValue = "true")
@@ -0,0 +1,29 @@
+package com.ahmadda.infra.notification.push.exception;
+
+import com.google.firebase.ErrorCode;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 멀티캐스트 요청 자체가 실패했을 때 던지며, FCM 오류 코드와 Retry-After 로 받은 대기 시간을 담는다.
+ */
+@Getter
+public class FcmMulticastException extends RuntimeException {
+
+    @Nullable
+    private final ErrorCode errorCode;
+    private final Duration retryAfter;
+
+    public FcmMulticastException(
+            final String message,
+            @Nullable final ErrorCode errorCode,
+            final Duration retryAfter,
+            @Nullable final Throwable cause
+    ) {
+        super(message, cause);
+        this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -3,10 +3,12 @@ package com.ahmadda.presentation;
 
 import com.ahmadda.application.EventService;
 import com.ahmadda.application.OrganizationMemberEventService;
+import com.ahmadda.application.dto.ActiveEventSummary;
 import com.ahmadda.application.dto.EventCreateRequest;
 import com.ahmadda.application.dto.EventUpdateRequest;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.domain.event.Event;
+import com.ahmadda.presentation.cache.EventDetailResponseCache;
 import com.ahmadda.presentation.dto.EventCreateResponse;
 import com.ahmadda.presentation.dto.EventDetailResponse;
 import com.ahmadda.presentation.dto.EventLoadResponse;
@@ -50,9 +52,12 @@ import java.util.List;
 public class OrganizationEventController {
 
     private static final String DEFAULT_GET_PAST_EVENT_CURSOR = "9223372036854775807"; // Long.MAX_VALUE
+    private static final String DEFAULT_GET_MEMBER_EVENT_CURSOR = "0";
+    private static final int MEMBER_EVENT_PAGE_SIZE = 10;
 
     private final OrganizationMemberEventService organizationMemberEventService;
     private final EventService eventService;
+    private final EventDetailResponseCache eventDetailResponseCache;
 
     @Operation(summary = "이벤트 스페이스의 모든 이벤트 조회", description = "특정 이벤트 스페이스에 속한 모든 이벤트를 조회합니다.")
     @ApiResponses(value = {
@@ -84,10 +89,10 @@ public class OrganizationEventController {
             @PathVariable final Long organizationId,
             @OptionalAuth final LoginMember loginMember
     ) {
-        List<Event> organizationEvents = eventService.getActiveEvents(organizationId);
+        List<ActiveEventSummary> activeEventSummaries = eventService.getActiveEventSummaries(organizationId, loginMember);
 
-        List<MainEventResponse> eventResponses = organizationEvents.stream()
-                .map(event -> MainEventResponse.from(event, loginMember))
+        List<MainEventResponse> eventResponses = activeEventSummaries.stream()
+                .map(MainEventResponse::from)
                 .toList();
 
         return ResponseEntity.ok(eventResponses);
@@ -553,9 +558,13 @@ public class OrganizationEventController {
     })
     @GetMapping("/events/{eventId}")
     public ResponseEntity<EventDetailResponse> getOrganizationEvent(@PathVariable final Long eventId) {
-        Event event = eventService.getEvent(eventId);
+        EventDetailResponse eventDetailResponse = eventDetailResponseCache.get(
+                eventId,
+                id -> EventDetailResponse.from(eventService.getEvent(id))
+        );
+        eventService.readEvent(eventId);
 
-        return ResponseEntity.ok(EventDetailResponse.from(event));
+        return ResponseEntity.ok(eventDetailResponse);
     }
 
     @Operation(summary = "내가 주최한 이벤트 목록 조회", description = "로그인한 사용자가 주최한 이벤트 목록을 조회합니다.")
@@ -613,6 +622,67 @@ public class OrganizationEventController {
         return ResponseEntity.ok(eventResponses);
     }
 
+    @Operation(summary = "내가 주최한 이벤트 목록 커서 조회", description = "로그인한 사용자가 주최한 이벤트를 lastEventId 이후부터 10개씩 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = EventResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "type": "about:blank",
+                                              "title": "Unauthorized",
+                                              "status": 401,
+                                              "detail": "유효하지 않은 인증 정보입니다.",
+                                              "instance": "/api/organizations/{organizationId}/events/owned/cursor"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "type": "about:blank",
+                                              "title": "Not Found",
+                                              "status": 404,
+                                              "detail": "존재하지 않는 구성원 정보입니다.",
+                                              "instance": "/api/organizations/{organizationId}/events/owned/cursor"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/{organizationId}/events/owned/cursor")
+    public ResponseEntity<List<EventResponse>> getOwnerEventsWithCursor(
+            @PathVariable final Long organizationId,
+            @RequestParam(defaultValue = DEFAULT_GET_MEMBER_EVENT_CURSOR) final Long lastEventId,
+            @Auth final LoginMember loginMember
+    ) {
+        List<Event> organizationEvents = organizationMemberEventService.getOwnerEvents(
+                organizationId,
+                loginMember,
+                lastEventId,
+                MEMBER_EVENT_PAGE_SIZE
+        );
+
+        List<EventResponse> eventResponses = organizationEvents.stream()
+                .map(EventResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(eventResponses);
+    }
+
     @Operation(summary = "내가 이전에 주최한 이벤트 제목 조회", description = "본인의 이벤트 정보로 이벤트 제목 명을 불러옵니다")
     @ApiResponses(value = {
             @ApiResponse(
@@ -763,6 +833,67 @@ public class OrganizationEventController {
         return ResponseEntity.ok(eventResponses);
     }
 
+    @Operation(summary = "내가 참가한 이벤트 목록 커서 조회", description = "로그인한 사용자가 참가한 이벤트를 lastEventId 이후부터 10개씩 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = EventResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "type": "about:blank",
+                                              "title": "Unauthorized",
+                                              "status": 401,
+                                              "detail": "유효하지 않은 인증 정보입니다.",
+                                              "instance": "/api/organizations/{organizationId}/events/participated/cursor"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "type": "about:blank",
+                                              "title": "Not Found",
+                                              "status": 404,
+                                              "detail": "존재하지 않는 구성원 정보입니다.",
+                                              "instance": "/api/organizations/{organizationId}/events/participated/cursor"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/{organizationId}/events/participated/cursor")
+    public ResponseEntity<List<EventResponse>> getParticipantEventsWithCursor(
+            @PathVariable final Long organizationId,
+            @RequestParam(defaultValue = DEFAULT_GET_MEMBER_EVENT_CURSOR) final Long lastEventId,
+            @Auth final LoginMember loginMember
+    ) {
+        List<Event> organizationEvents = organizationMemberEventService.getParticipantEvents(
+                organizationId,
+                loginMember,
+                lastEventId,
+                MEMBER_EVENT_PAGE_SIZE
+        );
+
+        List<EventResponse> eventResponses = organizationEvents.stream()
+                .map(EventResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(eventResponses);
+    }
+
     @Operation(summary = "내가 특정 이벤트의 주최자인지 확인", description = "내가 주최한 이벤트인지 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(
@@ -0,0 +1,62 @@
+package com.ahmadda.presentation.cache;
+
+import com.ahmadda.application.dto.EventGuestChanged;
+import com.ahmadda.application.dto.EventRegistrationClosed;
+import com.ahmadda.application.dto.EventUpdated;
+import com.ahmadda.presentation.dto.EventDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 이벤트 상세 조회 응답을 이벤트 ID 기준으로 보관하는 로컬 캐시.
+ * <p>
+ * 상세 응답은 이벤트, 주최자, 게스트, 질문 테이블을 모두 거쳐야 만들어지므로 렌더링된 응답 자체를 보관한다.
+ * 이벤트 수정, 게스트 참여/취소, 모집 마감은 커밋 이후 즉시 무효화하고,
+ * 그 외 변경(주최자 닉네임 변경 등)은 TTL 만료로 반영한다.
+ */
+@Component
+public class EventDetailResponseCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final Cache<Long, EventDetailResponse> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    public EventDetailResponseCache(final MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventDetailResponse");
+    }
+
+    public EventDetailResponse get(final Long eventId, final Function<Long, EventDetailResponse> loader) {
+        return cache.get(eventId, loader);
+    }
+
+    public void invalidate(final Long eventId) {
+        cache.invalidate(eventId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUpdated(final EventUpdated eventUpdated) {
+        invalidate(eventUpdated.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventGuestChanged(final EventGuestChanged eventGuestChanged) {
+        invalidate(eventGuestChanged.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventRegistrationClosed(final EventRegistrationClosed eventRegistrationClosed) {
+        invalidate(eventRegistrationClosed.eventId());
+    }
+}
@@ -55,8 +55,7 @@ public record EventDetailResponse(
                 event.getEventEnd(),
                 event.getRegistrationStart(),
                 event.getRegistrationEnd(),
-                event.getGuests()
-                        .size(),
+                event.getCurrentGuestCount(),
                 event.getMaxCapacity(),
                 event.getQuestions()
                         .stream()
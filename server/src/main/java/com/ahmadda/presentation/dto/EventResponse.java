@@ -27,8 +27,7 @@ public record EventResponse(
                 event.getDescription(),
                 event.getEventStart(),
                 event.getEventEnd(),
-                event.getGuests()
-                        .size(),
+                event.getCurrentGuestCount(),
                 event.getMaxCapacity(),
                 event.getPlace(),
                 event.getRegistrationStart(),
@@ -1,5 +1,6 @@
 package com.ahmadda.presentation.dto;
 
+import com.ahmadda.application.dto.ActiveEventSummary;
 import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventOrganizer;
@@ -35,8 +36,7 @@ public record MainEventResponse(
                 event.getDescription(),
                 event.getEventStart(),
                 event.getEventEnd(),
-                event.getGuests()
-                        .size(),
+                event.getCurrentGuestCount(),
                 event.getMaxCapacity(),
                 event.getPlace(),
                 event.getRegistrationStart(),
@@ -47,6 +47,24 @@ public record MainEventResponse(
         );
     }
 
+    public static MainEventResponse from(final ActiveEventSummary activeEventSummary) {
+        return new MainEventResponse(
+                activeEventSummary.eventId(),
+                activeEventSummary.title(),
+                activeEventSummary.description(),
+                activeEventSummary.eventStart(),
+                activeEventSummary.eventEnd(),
+                activeEventSummary.currentGuestCount(),
+                activeEventSummary.maxCapacity(),
+                activeEventSummary.place(),
+                activeEventSummary.registrationStart(),
+                activeEventSummary.registrationEnd(),
+                activeEventSummary.organizerNicknames(),
+                activeEventSummary.isOrganizer(),
+                activeEventSummary.isGuest()
+        );
+    }
+
     private static List<String> getOrganizerNicknames(final Event event) {
         return event.getEventOrganizers()
                 .stream()
@@ -28,8 +28,7 @@ public record OwnerEventResponse(
                 event.getDescription(),
                 event.getEventStart(),
                 event.getEventEnd(),
-                event.getGuests()
-                        .size(),
+                event.getCurrentGuestCount(),
                 event.getMaxCapacity(),
                 event.getPlace(),
                 event.getRegistrationStart(),
@@ -0,0 +1,2 @@
+create index idx_event_view_metric__statistic__view_date
+    on event_view_metric (event_statistic_id, view_date);
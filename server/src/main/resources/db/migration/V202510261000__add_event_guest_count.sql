@@ -0,0 +1,16 @@
+ALTER TABLE event
+    ADD COLUMN approved_guest_count INT    NOT NULL DEFAULT 0,
+    ADD COLUMN pending_guest_count  INT    NOT NULL DEFAULT 0,
+    ADD COLUMN version              BIGINT NOT NULL DEFAULT 0;
+
+UPDATE event e
+SET e.approved_guest_count = (SELECT COUNT(*)
+                              FROM guest g
+                              WHERE g.event_id = e.event_id
+                                AND g.approval_status = 'APPROVED'
+                                AND g.deleted_at IS NULL),
+    e.pending_guest_count  = (SELECT COUNT(*)
+                              FROM guest g
+                              WHERE g.event_id = e.event_id
+                                AND g.approval_status = 'PENDING'
+                                AND g.deleted_at IS NULL);
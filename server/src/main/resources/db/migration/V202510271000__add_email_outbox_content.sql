@@ -0,0 +1,36 @@
+create table email_outbox_content
+(
+    content_hash    varchar(64)  not null
+        primary key,
+    subject         varchar(255) not null,
+    body            longtext     not null,
+    reference_count int          not null,
+    created_at      datetime(6)  not null
+);
+
+insert into email_outbox_content (content_hash, subject, body, reference_count, created_at)
+select hashed.content_hash,
+       any_value(hashed.subject),
+       any_value(hashed.body),
+       count(*),
+       min(hashed.created_at)
+from (select sha2(concat(o.subject, char(0), o.body), 256) as content_hash,
+             o.subject,
+             o.body,
+             o.created_at
+      from email_outbox o) hashed
+group by hashed.content_hash;
+
+alter table email_outbox
+    add column content_hash varchar(64) null;
+
+update email_outbox
+set content_hash = sha2(concat(subject, char(0), body), 256);
+
+alter table email_outbox
+    modify content_hash varchar(64) not null,
+    drop column subject,
+    drop column body,
+    add constraint fk_email_outbox__email_outbox_content
+        foreign key (content_hash)
+            references email_outbox_content (content_hash);
@@ -0,0 +1,15 @@
+alter table email_outbox
+    add column status          varchar(20)  not null default 'PENDING',
+    add column attempt_count   int          not null default 1,
+    add column next_attempt_at datetime(6)  null,
+    add column last_error      varchar(500) null;
+
+update email_outbox
+set next_attempt_at = date_add(locked_at, interval 5 minute);
+
+alter table email_outbox
+    modify next_attempt_at datetime(6) not null,
+    drop column locked_at;
+
+create index idx_email_outbox__status__next_attempt_at
+    on email_outbox (status, next_attempt_at);
@@ -0,0 +1,18 @@
+create table fcm_push_retry
+(
+    fcm_push_retry_id  bigint auto_increment
+        primary key,
+    content_hash       varchar(64)  not null,
+    registration_token varchar(255) not null,
+    title              varchar(255) not null,
+    body               text         not null,
+    redirect_url       varchar(255) not null,
+    attempt_count      int          not null,
+    next_attempt_at    datetime(6)  not null,
+    created_at         datetime(6)  not null,
+    constraint uk_fcm_push_retry__content_hash__registration_token
+        unique (content_hash, registration_token)
+);
+
+create index idx_fcm_push_retry__next_attempt_at
+    on fcm_push_retry (next_attempt_at);
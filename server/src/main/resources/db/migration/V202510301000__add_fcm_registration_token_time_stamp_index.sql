@@ -0,0 +1,2 @@
+create index idx_fcm_registration_token__time_stamp
+    on fcm_registration_token (time_stamp);
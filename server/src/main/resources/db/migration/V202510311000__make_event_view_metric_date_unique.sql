@@ -0,0 +1,29 @@
+-- 같은 통계, 같은 일자의 조회수 행이 중복으로 만들어졌다면 가장 먼저 만든 행으로 합친 뒤 유니크 키를 건다.
+delete duplicated
+from event_view_metric duplicated
+    join event_view_metric alive
+        on alive.event_statistic_id = duplicated.event_statistic_id
+            and alive.view_date = duplicated.view_date
+            and alive.deleted_at is null
+where duplicated.deleted_at is not null;
+
+update event_view_metric keeper
+    join (select min(event_view_metric_id) as keeper_id,
+                 sum(view_count)           as total_view_count
+          from event_view_metric
+          group by event_statistic_id, view_date
+          having count(*) > 1) merged
+        on keeper.event_view_metric_id = merged.keeper_id
+set keeper.view_count = merged.total_view_count;
+
+delete duplicated
+from event_view_metric duplicated
+    join event_view_metric keeper
+        on keeper.event_statistic_id = duplicated.event_statistic_id
+            and keeper.view_date = duplicated.view_date
+            and keeper.event_view_metric_id < duplicated.event_view_metric_id;
+
+create unique index uk_event_view_metric__statistic__view_date
+    on event_view_metric (event_statistic_id, view_date);
+
+drop index idx_event_view_metric__statistic__view_date on event_view_metric;
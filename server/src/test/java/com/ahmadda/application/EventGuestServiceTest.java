@@ -22,13 +22,22 @@ import com.ahmadda.domain.organization.OrganizationMember;
 import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationMemberRole;
 import com.ahmadda.domain.organization.OrganizationRepository;
+import com.ahmadda.presentation.cache.EventDetailResponseCache;
+import com.ahmadda.presentation.dto.EventDetailResponse;
 import com.ahmadda.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,6 +66,18 @@ class EventGuestServiceTest extends IntegrationTest {
     @Autowired
     private OrganizationGroupRepository organizationGroupRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventDetailResponseCache eventDetailResponseCache;
+
     @Test
     void 이벤트에_참여한_게스트들을_조회한다() {
         // given
@@ -266,6 +287,105 @@ class EventGuestServiceTest extends IntegrationTest {
         });
     }
 
+    @Test
+    void 게스트_참여와_취소에_따라_이벤트의_인원_수가_DB에_반영된다() {
+        // given
+        var organization = createAndSaveOrganization();
+        var member1 = createAndSaveMember("name1", "email1@ahmadda.com");
+        var member2 = createAndSaveMember("name2", "email2@ahmadda.com");
+        var member3 = createAndSaveMember("name3", "email3@ahmadda.com");
+        var group = createGroup();
+        var organizer = createAndSaveOrganizationMember("surf1", member1, organization, group);
+        createAndSaveOrganizationMember("surf2", member2, organization, group);
+        createAndSaveOrganizationMember("surf3", member3, organization, group);
+        var event = createAndSaveEvent(organizer, organization, false);
+
+        // when
+        sut.participantEvent(
+                event.getId(),
+                new LoginMember(member2.getId()),
+                event.getRegistrationStart(),
+                new EventParticipateRequest(List.of())
+        );
+        sut.participantEvent(
+                event.getId(),
+                new LoginMember(member3.getId()),
+                event.getRegistrationStart(),
+                new EventParticipateRequest(List.of())
+        );
+        sut.cancelParticipation(event.getId(), new LoginMember(member3.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        var savedEvent = eventRepository.findById(event.getId())
+                .orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(savedEvent.getApprovedGuestCount())
+                    .isEqualTo(1);
+            softly.assertThat(savedEvent.getPendingGuestCount())
+                    .isZero();
+        });
+    }
+
+    @Test
+    void 동시에_신청해도_수용_인원을_초과해_참여할_수_없다() throws InterruptedException {
+        // given
+        var maxCapacity = 5;
+        var participantCount = 30;
+        var organization = createAndSaveOrganization();
+        var group = createGroup();
+        var organizer = createAndSaveOrganizationMember(
+                "주최자",
+                createAndSaveMember("주최자", "host@email.com"),
+                organization,
+                group
+        );
+        var event = createAndSaveEventWithCapacity(organizer, organization, maxCapacity);
+        var participants = new ArrayList<Member>();
+        for (int i = 0; i < participantCount; i++) {
+            var member = createAndSaveMember("참여자" + i, "participant" + i + "@email.com");
+            createAndSaveOrganizationMember("참여자" + i, member, organization, group);
+            participants.add(member);
+        }
+
+        commitTestTransaction();
+
+        var executorService = Executors.newFixedThreadPool(16);
+        var latch = new CountDownLatch(participantCount);
+
+        try {
+            // when
+            for (var participant : participants) {
+                executorService.submit(() -> {
+                    try {
+                        sut.participantEvent(
+                                event.getId(),
+                                new LoginMember(participant.getId()),
+                                event.getRegistrationStart(),
+                                new EventParticipateRequest(List.of())
+                        );
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+
+            // then
+            var savedEvent = eventRepository.findById(event.getId())
+                    .orElseThrow();
+            assertSoftly(softly -> {
+                softly.assertThat(savedEvent.getApprovedGuestCount())
+                        .isEqualTo(maxCapacity);
+                softly.assertThat(guestRepository.count())
+                        .isEqualTo(maxCapacity);
+            });
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void 필수_질문에_모두_답변하면_참여할_수_있다() {
         // given
@@ -615,6 +735,85 @@ class EventGuestServiceTest extends IntegrationTest {
                 .hasMessage("주최자만 게스트를 거절할 수 있습니다.");
     }
 
+    @Test
+    void 게스트를_승인하면_커밋_이후_이벤트_상세_캐시가_무효화된다() {
+        // given
+        var organization = createAndSaveOrganization();
+        var member1 = createAndSaveMember("test1", "ahmadda1@ahmadda.com");
+        var member2 = createAndSaveMember("test2", "ahmadda2@ahmadda.com");
+        var group = createGroup();
+        var organizationMember1 = createAndSaveOrganizationMember("om1", member1, organization, group);
+        var organizationMember2 = createAndSaveOrganizationMember("om2", member2, organization, group);
+        var event = createAndSaveEvent(organizationMember1, organization, true);
+
+        commitTestTransaction();
+
+        var loadCount = new AtomicInteger();
+
+        try {
+            sut.participantEvent(
+                    event.getId(),
+                    new LoginMember(member2.getId()),
+                    event.getRegistrationStart(),
+                    new EventParticipateRequest(List.of())
+            );
+            var guest = guestRepository.findAll()
+                    .getFirst();
+            eventDetailResponseCache.get(event.getId(), id -> loadEventDetail(id, loadCount));
+
+            // when
+            sut.receiveApprovalFromOrganizer(event.getId(), guest.getId(), new LoginMember(member1.getId()));
+            eventDetailResponseCache.get(event.getId(), id -> loadEventDetail(id, loadCount));
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        } finally {
+            eventDetailResponseCache.invalidate(event.getId());
+        }
+    }
+
+    @Test
+    void 게스트를_거절하면_커밋_이후_이벤트_상세_캐시에_인원_수가_반영된다() {
+        // given
+        var organization = createAndSaveOrganization();
+        var member1 = createAndSaveMember("test1", "ahmadda1@ahmadda.com");
+        var member2 = createAndSaveMember("test2", "ahmadda2@ahmadda.com");
+        var group = createGroup();
+        var organizationMember1 = createAndSaveOrganizationMember("om1", member1, organization, group);
+        var organizationMember2 = createAndSaveOrganizationMember("om2", member2, organization, group);
+        var event = createAndSaveEvent(organizationMember1, organization, true);
+
+        commitTestTransaction();
+
+        var loadCount = new AtomicInteger();
+
+        try {
+            sut.participantEvent(
+                    event.getId(),
+                    new LoginMember(member2.getId()),
+                    event.getRegistrationStart(),
+                    new EventParticipateRequest(List.of())
+            );
+            var guest = guestRepository.findAll()
+                    .getFirst();
+            var before = eventDetailResponseCache.get(event.getId(), id -> loadEventDetail(id, loadCount));
+
+            // when
+            sut.receiveRejectFromOrganizer(event.getId(), guest.getId(), new LoginMember(member1.getId()));
+            var after = eventDetailResponseCache.get(event.getId(), id -> loadEventDetail(id, loadCount));
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(before.currentGuestCount())
+                        .isEqualTo(1);
+                softly.assertThat(after.currentGuestCount())
+                        .isZero();
+            });
+        } finally {
+            eventDetailResponseCache.invalidate(event.getId());
+        }
+    }
+
     private Member createAndSaveMember(String name, String email) {
         return memberRepository.save(Member.create(name, email, "testPicture"));
     }
@@ -664,6 +863,30 @@ class EventGuestServiceTest extends IntegrationTest {
         return eventRepository.save(event);
     }
 
+    private Event createAndSaveEventWithCapacity(
+            OrganizationMember organizer,
+            Organization organization,
+            int maxCapacity
+    ) {
+        var now = LocalDateTime.now();
+        var event = Event.create(
+                "이벤트",
+                "설명",
+                "장소",
+                organizer,
+                organization,
+                EventOperationPeriod.create(
+                        now.minusDays(3), now.minusDays(1),
+                        now.plusDays(1), now.plusDays(2),
+                        now.minusDays(6)
+                ),
+                maxCapacity,
+                false
+        );
+
+        return eventRepository.save(event);
+    }
+
     private Event createAndSaveEventWithTime(
             OrganizationMember organizer,
             Organization organization,
@@ -695,6 +918,12 @@ class EventGuestServiceTest extends IntegrationTest {
         return eventRepository.save(event);
     }
 
+    private EventDetailResponse loadEventDetail(Long eventId, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+
+        return transactionTemplate.execute(status -> EventDetailResponse.from(eventService.getEvent(eventId)));
+    }
+
     private Guest createAndSaveGuest(Event event, OrganizationMember member) {
         return guestRepository.save(Guest.create(event, member, event.getRegistrationStart()));
     }
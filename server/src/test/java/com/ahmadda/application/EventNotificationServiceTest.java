@@ -316,7 +316,7 @@ class EventNotificationServiceTest extends IntegrationTest {
         var request = createSelectedMembersRequest(List.of(om1.getId(), om2.getId()));
 
         for (int i = 0; i < 10; i++) {
-            reminderHistoryRepository.save(
+            reminderHistoryRepository.saveWithRecipients(
                     ReminderHistory.createNow(event, request.content(), List.of(om1, om2))
             );
         }
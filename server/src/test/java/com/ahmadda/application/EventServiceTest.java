@@ -1,5 +1,6 @@
 package com.ahmadda.application;
 
+import com.ahmadda.application.dto.ActiveEventSummary;
 import com.ahmadda.application.dto.EventCreateRequest;
 import com.ahmadda.application.dto.EventUpdateRequest;
 import com.ahmadda.application.dto.LoginMember;
@@ -586,7 +587,7 @@ class EventServiceTest extends IntegrationTest {
         ));
 
         for (int i = 0; i < 10; i++) {
-            reminderHistoryRepository.save(
+            reminderHistoryRepository.saveWithRecipients(
                     ReminderHistory.createNow(event, "테스트 알림", List.of(organizer))
             );
         }
@@ -837,14 +838,6 @@ class EventServiceTest extends IntegrationTest {
         });
     }
 
-    @Test
-    void 존재하지_않는_이벤트_스페이스의_이벤트를_조회하면_예외가_발생한다() {
-        // when // then
-        assertThatThrownBy(() -> sut.getActiveEvents(999L))
-                .isInstanceOf(NotFoundException.class)
-                .hasMessage("존재하지 않는 이벤트 스페이스 정보입니다.");
-    }
-
     @Test
     void 여러_이벤트_스페이스의_이벤트가_있을때_선택된_이벤트_스페이스의_활성화된_이벤트만_가져온다() {
         // given
@@ -900,14 +893,70 @@ class EventServiceTest extends IntegrationTest {
         )); //다른 이벤트 스페이스의 진행중인 이벤트
 
         // when
-        var events = sut.getActiveEvents(orgA.getId());
+        var summaries = sut.getActiveEventSummaries(orgA.getId(), null);
 
         // then
-        assertThat(events).hasSize(2)
-                .extracting(Event::getTitle)
+        assertThat(summaries).hasSize(2)
+                .extracting(ActiveEventSummary::title)
                 .containsExactlyInAnyOrder("registrationNotEndEvent", "registrationNotEndEvent");
     }
 
+    @Test
+    void 활성화된_이벤트_요약을_주최자_닉네임과_조회자의_참여_여부와_함께_조회한다() {
+        // given
+        var organization = createOrganization("우테코");
+        var group = createGroup();
+        var organizerMember = createMember("주최자", "organizer@ahmadda.com");
+        var guestMember = createMember("게스트", "guest@ahmadda.com");
+        var organizer = createOrganizationMember(organization, organizerMember, group);
+        var guest = createOrganizationMember(organization, guestMember, group);
+
+        var now = LocalDateTime.now();
+        var activeEvent = createEvent(organizer, organization);
+        var otherActiveEvent = createEvent(organizer, organization);
+        eventRepository.save(createEvent(organizer, organization, "endedEvent", now.minusDays(3), now.minusDays(2)));
+        guestRepository.save(Guest.create(activeEvent, guest, activeEvent.getRegistrationStart()));
+
+        // when
+        var summaries = sut.getActiveEventSummaries(organization.getId(), createLoginMember(guestMember));
+
+        // then
+        assertThat(summaries)
+                .extracting("eventId", "organizerNicknames", "isOrganizer", "isGuest")
+                .containsExactly(
+                        Tuple.tuple(activeEvent.getId(), List.of("surf"), false, true),
+                        Tuple.tuple(otherActiveEvent.getId(), List.of("surf"), false, false)
+                );
+    }
+
+    @Test
+    void 로그인하지_않은_사용자는_주최자나_게스트가_아닌_것으로_조회된다() {
+        // given
+        var organization = createOrganization("우테코");
+        var group = createGroup();
+        var organizer = createOrganizationMember(organization, createMember(), group);
+        createEvent(organizer, organization);
+
+        // when
+        var summaries = sut.getActiveEventSummaries(organization.getId(), null);
+
+        // then
+        assertThat(summaries)
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.isOrganizer()).isFalse();
+                    assertThat(summary.isGuest()).isFalse();
+                });
+    }
+
+    @Test
+    void 존재하지_않는_이벤트_스페이스의_이벤트_요약을_조회하면_예외가_발생한다() {
+        // when // then
+        assertThatThrownBy(() -> sut.getActiveEventSummaries(999L, null))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("존재하지 않는 이벤트 스페이스 정보입니다.");
+    }
+
     @Test
     void 공동_주최자가_중복되면_이벤트_생성시_예외가_발생한다() {
         // given
@@ -8,6 +8,8 @@ import com.ahmadda.domain.event.EventOperationPeriod;
 import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.event.EventStatistic;
 import com.ahmadda.domain.event.EventStatisticRepository;
+import com.ahmadda.domain.event.EventViewCount;
+import com.ahmadda.domain.event.EventViewMetric;
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.member.MemberRepository;
 import com.ahmadda.domain.organization.Organization;
@@ -18,13 +20,21 @@ import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationMemberRole;
 import com.ahmadda.domain.organization.OrganizationRepository;
 import com.ahmadda.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 class EventStatisticServiceTest extends IntegrationTest {
 
@@ -49,6 +59,12 @@ class EventStatisticServiceTest extends IntegrationTest {
     @Autowired
     private OrganizationGroupRepository organizationGroupRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void 주최자는_이벤트_조회수를_가지고_올_수_있다() {
         // given
@@ -136,6 +152,225 @@ class EventStatisticServiceTest extends IntegrationTest {
                 .hasMessage("존재하지 않는 요청한 이벤트 조회수 정보입니다.");
     }
 
+    @Test
+    void 조회수를_증가시키면_해당_일자의_조회수가_증가한다() {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        createEventStatistic(event);
+        var viewDate = event.getRegistrationStart()
+                .toLocalDate();
+
+        // when
+        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 2)));
+
+        // then
+        entityManager.clear();
+        assertThat(getViewCount(event, viewDate)).isEqualTo(3);
+    }
+
+    @Test
+    void 이벤트_기간_내_일자의_조회수_행이_없으면_조회수_행을_생성한다() {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        createEventStatistic(event);
+
+        var extendedEventEnd = event.getEventEnd()
+                .plusDays(1);
+        event.update(
+                member,
+                event.getTitle(),
+                event.getDescription(),
+                event.getPlace(),
+                EventOperationPeriod.create(
+                        event.getRegistrationStart(),
+                        event.getRegistrationEnd(),
+                        event.getEventStart(),
+                        extendedEventEnd,
+                        LocalDateTime.now()
+                ),
+                event.getMaxCapacity()
+        );
+        entityManager.flush();
+        var viewDate = extendedEventEnd.toLocalDate();
+
+        // when
+        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+
+        // then
+        entityManager.clear();
+        assertThat(getViewCount(event, viewDate)).isEqualTo(1);
+    }
+
+    @Test
+    void 이벤트_기간을_벗어난_일자의_조회수는_무시된다() {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        createEventStatistic(event);
+        var viewDate = event.getEventEnd()
+                .toLocalDate()
+                .plusDays(10);
+
+        // when
+        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+
+        // then
+        entityManager.clear();
+        var eventViewMetrics = eventStatisticRepository.findByEventId(event.getId())
+                .get()
+                .getEventViewMetrics();
+        assertThat(eventViewMetrics)
+                .noneMatch(eventViewMetric -> eventViewMetric.isSameDate(viewDate));
+    }
+
+    @Test
+    void 통계가_존재하지_않으면_통계를_생성하고_조회수를_증가시킨다() {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        var viewDate = event.getRegistrationStart()
+                .toLocalDate();
+
+        // when
+        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(getViewCount(event, viewDate)).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_200번_반영해도_조회수가_유실되지_않는다() throws InterruptedException {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        createEventStatistic(event);
+        var viewDate = event.getRegistrationStart()
+                .toLocalDate();
+
+        commitTestTransaction();
+
+        var readerCount = 200;
+        var executorService = Executors.newFixedThreadPool(32);
+        var latch = new CountDownLatch(readerCount);
+
+        try {
+            // when
+            for (int i = 0; i < readerCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(getViewCount(event, viewDate)).isEqualTo(readerCount);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void 조회수_행이_없는_일자에_동시에_반영해도_행은_하나만_생성되고_조회수가_유실되지_않는다() throws InterruptedException {
+        // given
+        var organization = createOrganization();
+        var member = createMember();
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, member, group);
+        var event = createEvent(organization, organizationMember);
+        createEventStatistic(event);
+
+        var extendedEventEnd = event.getEventEnd()
+                .plusDays(1);
+        event.update(
+                member,
+                event.getTitle(),
+                event.getDescription(),
+                event.getPlace(),
+                EventOperationPeriod.create(
+                        event.getRegistrationStart(),
+                        event.getRegistrationEnd(),
+                        event.getEventStart(),
+                        extendedEventEnd,
+                        LocalDateTime.now()
+                ),
+                event.getMaxCapacity()
+        );
+        var viewDate = extendedEventEnd.toLocalDate();
+
+        commitTestTransaction();
+
+        var flushCount = 200;
+        var executorService = Executors.newFixedThreadPool(32);
+        var latch = new CountDownLatch(flushCount);
+
+        try {
+            // when
+            for (int i = 0; i < flushCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        sut.increaseViewCounts(List.of(new EventViewCount(event.getId(), viewDate, 1)));
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(countViewMetricRows(viewDate))
+                        .isEqualTo(1);
+                softly.assertThat(getViewCount(event, viewDate))
+                        .isEqualTo(flushCount);
+            });
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private int countViewMetricRows(LocalDate viewDate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_view_metric WHERE view_date = ?",
+                Integer.class,
+                viewDate
+        );
+    }
+
+    private int getViewCount(Event event, LocalDate viewDate) {
+        return eventStatisticRepository.findByEventId(event.getId())
+                .get()
+                .getEventViewMetrics()
+                .stream()
+                .filter(eventViewMetric -> eventViewMetric.isSameDate(viewDate))
+                .findFirst()
+                .map(EventViewMetric::getViewCount)
+                .orElse(0);
+    }
+
     private Organization createOrganization() {
         Organization organization = Organization.create("테스트 이벤트 스페이스", "테스트 설명", "test-image-url");
         return organizationRepository.save(organization);
@@ -0,0 +1,108 @@
+package com.ahmadda.application;
+
+import com.ahmadda.domain.event.EventViewCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventViewCountBufferTest {
+
+    @Test
+    void 이벤트와_일자별로_조회수를_누적한다() {
+        // given
+        var sut = new EventViewCountBuffer(new SimpleMeterRegistry());
+        var today = LocalDate.now();
+
+        // when
+        sut.increase(1L, today);
+        sut.increase(1L, today);
+        sut.increase(2L, today);
+
+        // then
+        assertThat(sut.drain(today)).containsExactlyInAnyOrder(
+                new EventViewCount(1L, today, 2),
+                new EventViewCount(2L, today, 1)
+        );
+    }
+
+    @Test
+    void 누적된_조회수를_꺼내면_버퍼가_비워진다() {
+        // given
+        var sut = new EventViewCountBuffer(new SimpleMeterRegistry());
+        var today = LocalDate.now();
+        sut.increase(1L, today);
+
+        // when
+        sut.drain(today);
+
+        // then
+        assertThat(sut.countPending()).isZero();
+        assertThat(sut.drain(today)).isEmpty();
+    }
+
+    @Test
+    void 반영에_실패한_조회수는_버퍼에_되돌릴_수_있다() {
+        // given
+        var sut = new EventViewCountBuffer(new SimpleMeterRegistry());
+        var today = LocalDate.now();
+        sut.increase(1L, today);
+        var drained = sut.drain(today);
+
+        // when
+        sut.increase(1L, today);
+        sut.restore(drained);
+
+        // then
+        assertThat(sut.drain(today)).containsExactly(new EventViewCount(1L, today, 2));
+    }
+
+    @Test
+    void 미반영_조회수를_메트릭으로_노출한다() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        var sut = new EventViewCountBuffer(meterRegistry);
+        var today = LocalDate.now();
+
+        // when
+        sut.increase(1L, today);
+        sut.increase(2L, today);
+
+        // then
+        assertThat(meterRegistry.get("event.view.pending")
+                .gauge()
+                .value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 동시에_조회되어도_조회수가_유실되지_않는다() throws InterruptedException {
+        // given
+        var sut = new EventViewCountBuffer(new SimpleMeterRegistry());
+        var today = LocalDate.now();
+        var threadCount = 200;
+        var executorService = Executors.newFixedThreadPool(32);
+        var latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    sut.increase(1L, today);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(sut.drain(today)).containsExactly(new EventViewCount(1L, today, threadCount));
+    }
+}
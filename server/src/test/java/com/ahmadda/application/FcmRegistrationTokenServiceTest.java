@@ -5,11 +5,14 @@ import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.domain.member.Member;
 import com.ahmadda.domain.member.MemberRepository;
+import com.ahmadda.infra.notification.push.FcmRegistrationToken;
 import com.ahmadda.infra.notification.push.FcmRegistrationTokenRepository;
 import com.ahmadda.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -69,6 +72,22 @@ class FcmRegistrationTokenServiceTest extends IntegrationTest {
         });
     }
 
+    @Test
+    void 이미_등록된_토큰을_다시_등록하면_갱신_시각을_바꾼다() {
+        // given
+        var member = memberRepository.save(Member.create("홍길동", "test@example.com", "testPicture"));
+        var loginMember = new LoginMember(member.getId());
+        var registeredAt = LocalDateTime.now()
+                .minusDays(30);
+        fcmRegistrationTokenRepository.save(FcmRegistrationToken.create(member.getId(), "오래된토큰", registeredAt));
+
+        // when
+        var refreshed = sut.registerFcmRegistrationToken(new FcmRegistrationTokenRequest("오래된토큰"), loginMember);
+
+        // then
+        assertThat(refreshed.getTimeStamp()).isAfter(registeredAt.plusDays(29));
+    }
+
     @Test
     void 회원이_존재하지_않으면_예외가_발생한다() {
         // given
@@ -0,0 +1,75 @@
+package com.ahmadda.application;
+
+import com.ahmadda.application.dto.EventNotificationOptOutChanged;
+import com.ahmadda.domain.event.Event;
+import com.ahmadda.domain.notification.EventNotificationOptOutRepository;
+import com.ahmadda.domain.notification.OptedOutMemberIds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OptedOutMemberIdsCacheTest {
+
+    EventNotificationOptOutRepository optOutRepository;
+    Event event;
+    OptedOutMemberIdsCache sut;
+
+    @BeforeEach
+    void setUp() {
+        optOutRepository = mock(EventNotificationOptOutRepository.class);
+        event = mock(Event.class);
+        when(event.getId()).thenReturn(1L);
+        sut = new OptedOutMemberIdsCache(optOutRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_이벤트의_수신_거부_구성원은_한_번만_조회한다() {
+        // given
+        when(optOutRepository.findOptedOutMemberIds(1L)).thenReturn(optedOut(10L, 20L));
+
+        // when
+        var first = sut.get(event);
+        var second = sut.get(event);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(second)
+                    .isSameAs(first);
+            softly.assertThat(second.contains(10L))
+                    .isTrue();
+            softly.assertThat(second.contains(30L))
+                    .isFalse();
+        });
+        verify(optOutRepository, times(1)).findOptedOutMemberIds(1L);
+    }
+
+    @Test
+    void 수신_거부_설정이_바뀌면_캐시가_무효화된다() {
+        // given
+        when(optOutRepository.findOptedOutMemberIds(1L))
+                .thenReturn(optedOut(10L))
+                .thenReturn(optedOut(10L, 30L));
+        sut.get(event);
+
+        // when
+        sut.onEventNotificationOptOutChanged(new EventNotificationOptOutChanged(1L));
+        var reloaded = sut.get(event);
+
+        // then
+        assertSoftly(softly -> softly.assertThat(reloaded.contains(30L))
+                .isTrue());
+        verify(optOutRepository, times(2)).findOptedOutMemberIds(1L);
+    }
+
+    private OptedOutMemberIds optedOut(Long... organizationMemberIds) {
+        return OptedOutMemberIds.from(List.of(organizationMemberIds));
+    }
+}
@@ -4,6 +4,7 @@ import com.ahmadda.application.dto.LoginMember;
 import com.ahmadda.common.exception.NotFoundException;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventOperationPeriod;
+import com.ahmadda.domain.event.EventOrganizer;
 import com.ahmadda.domain.event.EventOrganizerRepository;
 import com.ahmadda.domain.event.EventRepository;
 import com.ahmadda.domain.event.Guest;
@@ -206,6 +207,68 @@ class OrganizationMemberEventServiceTest extends IntegrationTest {
         });
     }
 
+    @Test
+    void 구성원이_주최한_이벤트들을_커서_기반으로_나누어_조회한다() {
+        // given
+        var organization = createAndSaveOrganization("테스트 이벤트 스페이스", "이벤트 스페이스 설명", "org.png");
+        var member = createAndSaveMember("주최자", "organizer@test.com");
+        var group = createAndSaveGroup();
+        var organizer = createAndSaveOrganizationMember("주최자닉네임", member, organization, group);
+        var loginMember = new LoginMember(member.getId());
+
+        var event1 = createAndSaveEvent(organizer, organization, "주최 이벤트 1");
+        var event2 = createAndSaveEvent(organizer, organization, "주최 이벤트 2");
+        var event3 = createAndSaveEvent(organizer, organization, "주최 이벤트 3");
+
+        // when
+        var firstPage = sut.getOwnerEvents(organization.getId(), loginMember, 0L, 2);
+        var secondPage = sut.getOwnerEvents(organization.getId(), loginMember, event2.getId(), 2);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(firstPage)
+                    .containsExactly(event1, event2);
+            softly.assertThat(secondPage)
+                    .containsExactly(event3);
+            softly.assertThat(firstPage.getFirst()
+                            .getEventOrganizers())
+                    .extracting(EventOrganizer::getNickname)
+                    .containsExactly("주최자닉네임");
+        });
+    }
+
+    @Test
+    void 구성원이_참여한_이벤트들을_커서_기반으로_나누어_조회한다() {
+        // given
+        var organization = createAndSaveOrganization("테스트 이벤트 스페이스", "이벤트 스페이스 설명", "org.png");
+        var organizerMember = createAndSaveMember("주최자", "organizer@test.com");
+        var participantMember = createAndSaveMember("참여자", "participant@test.com");
+        var group = createAndSaveGroup();
+        var organizer = createAndSaveOrganizationMember("주최자닉네임", organizerMember, organization, group);
+        var participant = createAndSaveOrganizationMember("참여자닉네임", participantMember, organization, group);
+        var loginMember = new LoginMember(participantMember.getId());
+
+        var event1 = createAndSaveEvent(organizer, organization, "참여 이벤트 1");
+        var event2 = createAndSaveEvent(organizer, organization, "참여 이벤트 2");
+        createAndSaveEvent(organizer, organization, "미참여 이벤트");
+        var event3 = createAndSaveEvent(organizer, organization, "참여 이벤트 3");
+        createAndSaveGuest(event1, participant);
+        createAndSaveGuest(event2, participant);
+        createAndSaveGuest(event3, participant);
+
+        // when
+        var firstPage = sut.getParticipantEvents(organization.getId(), loginMember, 0L, 2);
+        var secondPage = sut.getParticipantEvents(organization.getId(), loginMember, event2.getId(), 2);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(firstPage)
+                    .containsExactly(event1, event2);
+            softly.assertThat(secondPage)
+                    .containsExactly(event3);
+        });
+    }
+
     @Test
     void 존재하지_않는_회원으로_주최_이벤트_조회하면_예외가_발생한다() {
         // given
@@ -286,6 +349,21 @@ class OrganizationMemberEventServiceTest extends IntegrationTest {
         return savedEvent;
     }
 
+    private Event createAndSaveEvent(OrganizationMember organizer, Organization organization, String title) {
+        return createAndSaveEvent(
+                title,
+                "설명",
+                "장소",
+                organizer,
+                organization,
+                LocalDateTime.now()
+                        .plusDays(1),
+                LocalDateTime.now()
+                        .plusDays(2),
+                50
+        );
+    }
+
     private Guest createAndSaveGuest(Event event, OrganizationMember participant) {
         var guest = Guest.create(event, participant, event.getRegistrationStart());
 
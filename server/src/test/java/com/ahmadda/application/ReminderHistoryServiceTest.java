@@ -18,6 +18,7 @@ import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationMemberRole;
 import com.ahmadda.domain.organization.OrganizationRepository;
 import com.ahmadda.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -50,6 +51,9 @@ class ReminderHistoryServiceTest extends IntegrationTest {
     @Autowired
     private OrganizationGroupRepository organizationGroupRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void 주최자가_리마인드_히스토리를_조회한다() {
         // given
@@ -80,6 +84,54 @@ class ReminderHistoryServiceTest extends IntegrationTest {
         });
     }
 
+    @Test
+    void 리마인드_히스토리의_수신자가_함께_저장된다() {
+        // given
+        var organization = createOrganization();
+        var organizerMember = createMember("organizer", "organizer@mail.com");
+        var group = createGroup();
+        var organizer = createOrganizationMember(organization, organizerMember, group);
+        var event = createEvent(organizer, organization);
+
+        reminderHistoryRepository.saveWithRecipients(
+                ReminderHistory.createNow(event, "알림입니다.", List.of(organizer))
+        );
+        entityManager.flush();
+        entityManager.clear();
+
+        var loginMember = new LoginMember(organizerMember.getId());
+
+        // when
+        var result = sut.getNotifyHistory(event.getId(), loginMember);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result)
+                    .hasSize(1);
+            softly.assertThat(result.get(0)
+                            .getRecipients())
+                    .extracting(recipient -> recipient.getOrganizationMember()
+                            .getId())
+                    .containsExactly(organizer.getId());
+        });
+    }
+
+    @Test
+    void 수신자가_있는_리마인드_히스토리를_save로_저장하면_예외가_발생한다() {
+        // given
+        var organization = createOrganization();
+        var organizerMember = createMember("organizer", "organizer@mail.com");
+        var group = createGroup();
+        var organizer = createOrganizationMember(organization, organizerMember, group);
+        var event = createEvent(organizer, organization);
+        var reminderHistory = ReminderHistory.createNow(event, "알림입니다.", List.of(organizer));
+
+        // when // then
+        assertThatThrownBy(() -> reminderHistoryRepository.save(reminderHistory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("수신자가 있는 리마인드 히스토리는 saveWithRecipients로 저장해야 합니다.");
+    }
+
     @Test
     void 존재하지_않는_이벤트로_조회하면_예외가_발생한다() {
         // given
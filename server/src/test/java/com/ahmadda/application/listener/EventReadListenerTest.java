@@ -1,7 +1,7 @@
 package com.ahmadda.application.listener;
 
 import com.ahmadda.application.dto.EventRead;
-import com.ahmadda.common.exception.NotFoundException;
+import com.ahmadda.application.scheduler.EventViewCountFlushScheduler;
 import com.ahmadda.domain.event.Event;
 import com.ahmadda.domain.event.EventOperationPeriod;
 import com.ahmadda.domain.event.EventRepository;
@@ -17,6 +17,7 @@ import com.ahmadda.domain.organization.OrganizationMemberRepository;
 import com.ahmadda.domain.organization.OrganizationMemberRole;
 import com.ahmadda.domain.organization.OrganizationRepository;
 import com.ahmadda.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -24,13 +25,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EventReadListenerTest extends IntegrationTest {
 
     @Autowired
     private EventReadListener sut;
 
+    @Autowired
+    private EventViewCountFlushScheduler eventViewCountFlushScheduler;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private EventStatisticRepository eventStatisticRepository;
 
@@ -63,6 +69,7 @@ class EventReadListenerTest extends IntegrationTest {
 
         // when
         sut.onEventRead(eventRead);
+        flushViewCounts();
 
         // then
         var eventStatistic = eventStatisticRepository.findByEventId(event.getId())
@@ -90,6 +97,7 @@ class EventReadListenerTest extends IntegrationTest {
 
         // when
         sut.onEventRead(eventRead);
+        flushViewCounts();
 
         // then
         var eventStatistic = eventStatisticRepository.findByEventId(event.getId())
@@ -104,15 +112,55 @@ class EventReadListenerTest extends IntegrationTest {
     }
 
     @Test
-    void 이벤트_조회시_이벤트가_존재하지_않으면_예외가_발생한다() {
+    void 여러번_조회되어도_반영_주기마다_누적된_조회수가_한번에_반영된다() {
+        // given
+        var organization = createOrganization();
+        var organizer = createMember("organizer", "organizer@mail.com");
+        var group = createGroup();
+        var organizationMember = createOrganizationMember(organization, organizer, group);
+        var event = createEvent(organizationMember, organization);
+        eventStatisticRepository.save(EventStatistic.create(event));
+
+        var eventRead = new EventRead(event.getId());
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sut.onEventRead(eventRead);
+        }
+        flushViewCounts();
+        sut.onEventRead(eventRead);
+        flushViewCounts();
+
+        // then
+        var eventStatistic = eventStatisticRepository.findByEventId(event.getId())
+                .get();
+        var viewCount = eventStatistic.getEventViewMetrics()
+                .stream()
+                .filter(metric -> metric.isSameDate(LocalDate.now()))
+                .findFirst()
+                .get()
+                .getViewCount();
+        assertThat(viewCount).isEqualTo(6);
+    }
+
+    @Test
+    void 이벤트가_존재하지_않으면_조회수는_반영되지_않는다() {
         // given
-        var reader = createMember("reader", "reader@mail.com");
         var eventRead = new EventRead(999L);
 
-        // when // then
-        assertThatThrownBy(() -> sut.onEventRead(eventRead))
-                .isInstanceOf(NotFoundException.class)
-                .hasMessage("존재하지 않는 이벤트입니다");
+        // when
+        sut.onEventRead(eventRead);
+        flushViewCounts();
+
+        // then
+        assertThat(eventStatisticRepository.findByEventId(999L)).isEmpty();
+    }
+
+    private void flushViewCounts() {
+        entityManager.flush();
+        eventViewCountFlushScheduler.flushViewCounts();
+        entityManager.flush();
+        entityManager.clear();
     }
 
     private Organization createOrganization() {
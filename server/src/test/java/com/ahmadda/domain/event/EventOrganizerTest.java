@@ -227,6 +227,59 @@ class EventOrganizerTest {
         assertThat(guest.getApprovalStatus()).isEqualTo(ApprovalStatus.REJECTED);
     }
 
+    @Test
+    void 주최자가_게스트를_승인하면_대기_게스트_수가_줄고_승인된_게스트_수가_늘어난다() {
+        //given
+        var organization = createOrganization();
+        var member1 = createMember();
+        var member2 = createMember();
+        var organizationMember1 = createOrganizationMember(member1, organization);
+        var organizationMember2 = createOrganizationMember(member2, organization);
+        var event = createEvent(organizationMember1, organization, true, 10);
+        var eventOrganizer = event.getEventOrganizers()
+                .getFirst();
+        var guest = Guest.create(event, organizationMember2, event.getRegistrationStart());
+
+        //when
+        eventOrganizer.approve(guest);
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(event.getApprovedGuestCount())
+                    .isEqualTo(1);
+            softly.assertThat(event.getPendingGuestCount())
+                    .isZero();
+        });
+    }
+
+    @Test
+    void 주최자가_승인된_게스트를_거절하면_승인된_게스트_수가_줄어든다() {
+        //given
+        var organization = createOrganization();
+        var member1 = createMember();
+        var member2 = createMember();
+        var organizationMember1 = createOrganizationMember(member1, organization);
+        var organizationMember2 = createOrganizationMember(member2, organization);
+        var event = createEvent(organizationMember1, organization, true, 10);
+        var eventOrganizer = event.getEventOrganizers()
+                .getFirst();
+        var guest = Guest.create(event, organizationMember2, event.getRegistrationStart());
+        eventOrganizer.approve(guest);
+
+        //when
+        eventOrganizer.reject(guest);
+
+        //then
+        assertSoftly(softly -> {
+            softly.assertThat(event.getApprovedGuestCount())
+                    .isZero();
+            softly.assertThat(event.getPendingGuestCount())
+                    .isZero();
+            softly.assertThat(event.isFull())
+                    .isFalse();
+        });
+    }
+
     @Test
     void 승인_이벤트가_아닐때_주최자가_게스트를_거절하면_예외가_발생한다() {
         //given
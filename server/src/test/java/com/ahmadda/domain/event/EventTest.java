@@ -628,6 +628,33 @@ class EventTest {
                 .hasMessage("이미 신청이 마감된 이벤트입니다.");
     }
 
+    @Test
+    void 게스트가_참여하고_취소하면_게스트_수가_함께_갱신된다() {
+        // given
+        var now = LocalDateTime.now();
+        var registrationPeriod = EventPeriod.create(now.plusDays(1), now.plusDays(2));
+        var sut = createEvent(now, registrationPeriod);
+
+        var guestMember = createOrganizationMember("게스트", createMember("게스트", "guest@email.com"), baseOrganization);
+        var otherGuestMember =
+                createOrganizationMember("게스트2", createMember("게스트2", "guest2@email.com"), baseOrganization);
+        Guest.create(sut, guestMember, registrationPeriod.start());
+        Guest.create(sut, otherGuestMember, registrationPeriod.start());
+
+        // when
+        sut.cancelParticipation(guestMember, now);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.getApprovedGuestCount())
+                    .isEqualTo(1);
+            softly.assertThat(sut.getPendingGuestCount())
+                    .isZero();
+            softly.assertThat(sut.getCurrentGuestCount())
+                    .isEqualTo(1);
+        });
+    }
+
     @Test
     void 이벤트가_정원이_다_찼는지_확인할_수_있다() {
         // given
@@ -0,0 +1,44 @@
+package com.ahmadda.domain.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class OptedOutMemberIdsTest {
+
+    @Test
+    void 수신_거부한_구성원_ID_포함_여부를_확인한다() {
+        // given
+        var sut = OptedOutMemberIds.from(List.of(30L, 10L, 20L, 10L));
+
+        // when // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.contains(10L))
+                    .isTrue();
+            softly.assertThat(sut.contains(20L))
+                    .isTrue();
+            softly.assertThat(sut.contains(30L))
+                    .isTrue();
+            softly.assertThat(sut.contains(15L))
+                    .isFalse();
+            softly.assertThat(sut.size())
+                    .isEqualTo(3);
+        });
+    }
+
+    @Test
+    void 빈_ID_목록으로_만들면_어떤_구성원도_포함하지_않는다() {
+        // given
+        var sut = OptedOutMemberIds.from(List.of());
+
+        // when // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.isEmpty())
+                    .isTrue();
+            softly.assertThat(sut.contains(1L))
+                    .isFalse();
+        });
+    }
+}
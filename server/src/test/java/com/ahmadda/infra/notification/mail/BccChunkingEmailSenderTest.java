@@ -2,12 +2,17 @@ package com.ahmadda.infra.notification.mail;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,10 +36,10 @@ class BccChunkingEmailSenderTest {
         var body = "본문 내용";
 
         // when
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(1L, recipients, subject, body);
 
         // then
-        verify(delegate, times(1)).sendEmails(recipients, subject, body);
+        verify(delegate, times(1)).sendEmails(1L, recipients, subject, body);
     }
 
     @Test
@@ -45,10 +50,33 @@ class BccChunkingEmailSenderTest {
         var body = "본문 내용";
 
         // when
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(1L, recipients, subject, body);
 
         // then
-        verify(delegate, times(3)).sendEmails(anyList(), any(), any());
+        verify(delegate, times(3)).sendEmails(eq(1L), anyList(), any(), any());
+    }
+
+    @Test
+    void 청크를_동시에_발송하다_하나라도_실패하면_예외가_전파된다() {
+        // given
+        var executor = Executors.newFixedThreadPool(3);
+        sut = new BccChunkingEmailSender(delegate, 50, executor);
+
+        var recipients = createRecipientEmails(120);
+        var subject = "이벤트 알림";
+        var body = "본문 내용";
+        var failedChunk = recipients.subList(50, 100);
+
+        doThrow(new MailSendException("발송 실패"))
+                .when(delegate)
+                .sendEmails(1L, failedChunk, subject, body);
+
+        // when // then
+        assertThatThrownBy(() -> sut.sendEmails(1L, recipients, subject, body))
+                .isInstanceOf(MailSendException.class);
+        verify(delegate, times(3)).sendEmails(eq(1L), anyList(), any(), any());
+
+        executor.shutdown();
     }
 
     private List<String> createRecipientEmails(int count) {
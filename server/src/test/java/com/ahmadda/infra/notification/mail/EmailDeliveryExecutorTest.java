@@ -0,0 +1,90 @@
+package com.ahmadda.infra.notification.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EmailDeliveryExecutorTest {
+
+    SimpleMeterRegistry meterRegistry;
+    EmailDeliveryExecutor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new EmailDeliveryExecutor(1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void 받은_작업은_메일_발송_전용_스레드에서_실행된다() throws InterruptedException {
+        // given
+        var done = new CountDownLatch(1);
+        var threadName = new String[1];
+
+        // when
+        var accepted = sut.tryExecute(() -> {
+            threadName[0] = Thread.currentThread()
+                    .getName();
+            done.countDown();
+        });
+
+        // then
+        var completed = done.await(3, TimeUnit.SECONDS);
+        assertSoftly(softly -> {
+            softly.assertThat(accepted)
+                    .isTrue();
+            softly.assertThat(completed)
+                    .isTrue();
+            softly.assertThat(threadName[0])
+                    .startsWith("email-delivery-");
+        });
+    }
+
+    @Test
+    void 대기열이_가득_차면_작업을_받지_않는다() throws InterruptedException {
+        // given
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        sut.tryExecute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(3, TimeUnit.SECONDS);
+        sut.tryExecute(() -> awaitQuietly(release));
+
+        // when
+        var accepted = sut.tryExecute(() -> {
+        });
+        release.countDown();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(accepted)
+                    .isFalse();
+            softly.assertThat(meterRegistry.get("email.delivery.rejected")
+                            .counter()
+                            .count())
+                    .isEqualTo(1.0);
+        });
+    }
+
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+}
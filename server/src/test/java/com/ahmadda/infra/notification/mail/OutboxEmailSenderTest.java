@@ -1,10 +1,11 @@
 package com.ahmadda.infra.notification.mail;
 
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxContent;
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxContentRepository;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRecipient;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRecipientRepository;
 import com.ahmadda.infra.notification.mail.outbox.EmailOutboxRepository;
 import com.ahmadda.support.IntegrationTest;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.transaction.TestTransaction;
@@ -15,8 +16,10 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -31,11 +34,8 @@ class OutboxEmailSenderTest extends IntegrationTest {
     @Autowired
     private EmailOutboxRecipientRepository emailOutboxRecipientRepository;
 
-    @AfterEach
-    void tearDown() {
-        emailOutboxRecipientRepository.deleteAllInBatch();
-        emailOutboxRepository.deleteAllInBatch();
-    }
+    @Autowired
+    private EmailOutboxContentRepository emailOutboxContentRepository;
 
     @Test
     void 트랜잭션이_없으면_예외가_발생한다() {
@@ -88,6 +88,34 @@ class OutboxEmailSenderTest extends IntegrationTest {
         });
     }
 
+    @Test
+    void 같은_제목과_본문의_메일은_본문을_한_번만_저장하고_참조_수를_늘린다() {
+        // given
+        var subject = "subject";
+        var body = "body";
+
+        // when
+        sut.sendEmails(List.of("a@test.com"), subject, body);
+        sut.sendEmails(List.of("b@test.com"), subject, body);
+
+        // then
+        var savedOutboxes = emailOutboxRepository.findAll();
+        var savedContents = emailOutboxContentRepository.findAll();
+
+        assertSoftly(softly -> {
+            softly.assertThat(savedOutboxes)
+                    .hasSize(2);
+            softly.assertThat(savedContents)
+                    .hasSize(1);
+            softly.assertThat(savedContents.get(0)
+                            .getContentHash())
+                    .isEqualTo(EmailOutboxContent.hash(subject, body));
+            softly.assertThat(savedContents.get(0)
+                            .getReferenceCount())
+                    .isEqualTo(2);
+        });
+    }
+
     @Test
     void 커밋_후에만_실제_전송이_실행된다() {
         // given
@@ -99,13 +127,15 @@ class OutboxEmailSenderTest extends IntegrationTest {
         sut.sendEmails(recipients, subject, body);
 
         // then
-        verify(emailSender, never()).sendEmails(anyList(), anyString(), anyString());
+        verify(emailSender, never()).sendEmails(anyLong(), anyList(), anyString(), anyString());
 
         // afterCommit 트리거
-        TestTransaction.flagForCommit();
-        TestTransaction.end();
+        commitTestTransaction();
 
         // 커밋 후 delegate 호출 확인
-        verify(emailSender, times(1)).sendEmails(recipients, subject, body);
+        var outboxId = emailOutboxRepository.findAll()
+                .get(0)
+                .getId();
+        verify(emailSender, timeout(1000).times(1)).sendEmails(outboxId, recipients, subject, body);
     }
 }
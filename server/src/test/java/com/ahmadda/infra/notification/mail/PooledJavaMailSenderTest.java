@@ -0,0 +1,250 @@
+package com.ahmadda.infra.notification.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PooledJavaMailSenderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Queue<Transport> transports;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transports = new ConcurrentLinkedQueue<>();
+    }
+
+    @Test
+    void 발송을_마친_연결은_다음_발송에_재사용한다() throws MessagingException {
+        // given
+        var transport = createConnectedTransport();
+        var sut = createSut(2, Duration.ofSeconds(1));
+
+        // when
+        sut.send(createMessage(sut));
+        sut.send(createMessage(sut));
+
+        // then
+        verify(transport, times(1)).connect(any(), anyInt(), any(), any());
+        verify(transport, times(2)).sendMessage(any(), any());
+        assertThat(meterRegistry.counter("email.smtp.connection.opened", "provider", "test")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 끊어진_연결은_닫고_새_연결로_교체한다() throws MessagingException {
+        // given
+        var dropped = createConnectedTransport();
+        var replacement = createConnectedTransport();
+        var sut = createSut(2, Duration.ofSeconds(1));
+        sut.send(createMessage(sut));
+        when(dropped.isConnected()).thenReturn(false);
+
+        // when
+        sut.send(createMessage(sut));
+
+        // then
+        verify(dropped).close();
+        verify(replacement, times(1)).sendMessage(any(), any());
+        assertSoftly(softly -> {
+            softly.assertThat(meterRegistry.counter("email.smtp.connection.opened", "provider", "test")
+                            .count())
+                    .isEqualTo(2.0);
+            softly.assertThat(meterRegistry.counter("email.smtp.connection.reconnected", "provider", "test")
+                            .count())
+                    .isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    void 발송에_실패한_연결은_풀에_되돌리지_않고_닫는다() throws MessagingException {
+        // given
+        var failed = createConnectedTransport();
+        var next = createConnectedTransport();
+        doThrow(new MessagingException("421 Service not available")).when(failed)
+                .sendMessage(any(), any());
+        var sut = createSut(2, Duration.ofSeconds(1));
+
+        // when
+        assertThatThrownBy(() -> sut.send(createMessage(sut)))
+                .isInstanceOf(MailSendException.class);
+        sut.send(createMessage(sut));
+
+        // then
+        verify(failed).close();
+        verify(next, times(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    void 모든_연결이_사용_중이면_대기_시간_뒤에_예외가_발생한다() throws Exception {
+        // given
+        var blocked = createConnectedTransport();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        blockOnSend(blocked, started, release);
+        var sut = createSut(1, Duration.ofMillis(100));
+        var executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            var message = createMessage(sut);
+            executorService.submit(() -> sut.send(message));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when // then
+            assertThatThrownBy(() -> sut.send(createMessage(sut)))
+                    .isInstanceOf(MailSendException.class)
+                    .hasMessageContaining("SMTP 연결을 얻지 못했습니다.");
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void 사용_중인_연결_수를_메트릭으로_노출한다() throws Exception {
+        // given
+        var blocked = createConnectedTransport();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        blockOnSend(blocked, started, release);
+        var sut = createSut(2, Duration.ofSeconds(1));
+        var executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            var message = createMessage(sut);
+            var future = executorService.submit(() -> sut.send(message));
+            started.await(5, TimeUnit.SECONDS);
+            var inUseWhileSending = getInUseConnections();
+            release.countDown();
+            future.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(inUseWhileSending)
+                        .isEqualTo(1.0);
+                softly.assertThat(getInUseConnections())
+                        .isZero();
+            });
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void 종료하면_풀에_남은_연결을_모두_닫는다() throws MessagingException {
+        // given
+        var transport = createConnectedTransport();
+        var sut = createSut(2, Duration.ofSeconds(1));
+        sut.send(createMessage(sut));
+
+        // when
+        sut.destroy();
+
+        // then
+        verify(transport).close();
+    }
+
+    @Test
+    void 종료_중에_발송을_마친_연결은_풀에_남기지_않고_닫는다() throws Exception {
+        // given
+        var blocked = createConnectedTransport();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        blockOnSend(blocked, started, release);
+        var sut = createSut(2, Duration.ofSeconds(1));
+        var executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            var message = createMessage(sut);
+            var future = executorService.submit(() -> sut.send(message));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            sut.destroy();
+            release.countDown();
+            future.get(5, TimeUnit.SECONDS);
+
+            // then
+            verify(blocked).close();
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    private PooledJavaMailSender createSut(int poolSize, Duration borrowTimeout) {
+        var sender = new PooledJavaMailSender("test", poolSize, borrowTimeout, meterRegistry) {
+            @Override
+            protected Transport getTransport(Session session) {
+                return transports.remove();
+            }
+        };
+        sender.setHost("smtp.example.com");
+        sender.setPort(587);
+
+        return sender;
+    }
+
+    private Transport createConnectedTransport() {
+        var transport = mock(Transport.class);
+        when(transport.isConnected()).thenReturn(true);
+        transports.add(transport);
+
+        return transport;
+    }
+
+    private void blockOnSend(Transport transport, CountDownLatch started, CountDownLatch release)
+            throws MessagingException {
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(transport)
+                .sendMessage(any(), any());
+    }
+
+    private MimeMessage createMessage(PooledJavaMailSender sender) throws MessagingException {
+        var mimeMessage = sender.createMimeMessage();
+        var helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        helper.setTo("user@example.com");
+        helper.setSubject("이벤트 알림");
+        helper.setText("본문 내용", false);
+
+        return mimeMessage;
+    }
+
+    private double getInUseConnections() {
+        return meterRegistry.get("email.smtp.connection.in-use")
+                .tag("provider", "test")
+                .gauge()
+                .value();
+    }
+}
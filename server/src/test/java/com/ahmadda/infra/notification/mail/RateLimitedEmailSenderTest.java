@@ -0,0 +1,125 @@
+package com.ahmadda.infra.notification.mail;
+
+import com.ahmadda.infra.notification.mail.outbox.EmailOutboxFailureHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimitedEmailSenderTest {
+
+    private EmailSender delegate;
+    private EmailOutboxFailureHandler emailOutboxFailureHandler;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitedEmailSender sut;
+
+    private final List<String> recipients = List.of("a@example.com", "b@example.com");
+    private final String subject = "이벤트 알림";
+    private final String body = "본문 내용";
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(EmailSender.class);
+        emailOutboxFailureHandler = mock(EmailOutboxFailureHandler.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new RateLimitedEmailSender(
+                delegate,
+                emailOutboxFailureHandler,
+                "test",
+                1,
+                100,
+                50,
+                Duration.ofMillis(10),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void 발송_한도_안에서는_바로_발송한다() {
+        // when
+        sut.sendEmails(1L, recipients, subject, body);
+
+        // then
+        verify(delegate, times(1)).sendEmails(1L, recipients, subject, body);
+        assertThat(meterRegistry.counter("email.rate.limit.recipients", "provider", "test")
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 발송_한도를_넘으면_예외없이_아웃박스_재발송으로_미룬다() {
+        // given
+        sut.sendEmails(1L, recipients, subject, body);
+
+        // when
+        sut.sendEmails(2L, recipients, subject, body);
+
+        // then
+        verify(delegate, times(1)).sendEmails(1L, recipients, subject, body);
+        verify(delegate, never()).sendEmails(2L, recipients, subject, body);
+        assertThat(meterRegistry.counter("email.rate.limit.deferred", "provider", "test")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 발송_한도로_미룬_메일은_시도로_세지_않도록_아웃박스에_기록한다() {
+        // given
+        sut.sendEmails(1L, recipients, subject, body);
+
+        // when
+        sut.sendEmails(2L, recipients, subject, body);
+
+        // then
+        verify(emailOutboxFailureHandler, never()).handleDeferral(eq(1L), anyString());
+        verify(emailOutboxFailureHandler, times(1)).handleDeferral(eq(2L), anyString());
+    }
+
+    @Test
+    void 수신자_한도로_미룬_메일의_메일_토큰은_돌려준다() {
+        // given
+        sut = new RateLimitedEmailSender(
+                delegate,
+                emailOutboxFailureHandler,
+                "test",
+                2,
+                100,
+                50,
+                Duration.ofMillis(100),
+                meterRegistry
+        );
+        var manyRecipients = IntStream.range(0, 100)
+                .mapToObj(i -> "user" + i + "@example.com")
+                .toList();
+        sut.sendEmails(1L, manyRecipients, subject, body);
+        sut.sendEmails(2L, manyRecipients, subject, body);
+
+        // when
+        sut.sendEmails(3L, recipients, subject, body);
+
+        // then
+        verify(delegate, never()).sendEmails(2L, manyRecipients, subject, body);
+        verify(delegate, times(1)).sendEmails(3L, recipients, subject, body);
+    }
+
+    @Test
+    void 아웃박스가_없는_메일이_발송_한도를_넘으면_예외가_발생한다() {
+        // given
+        sut.sendEmails(1L, recipients, subject, body);
+
+        // when // then
+        assertThatThrownBy(() -> sut.sendEmails(null, recipients, subject, body))
+                .isInstanceOf(MailSendException.class);
+    }
+}
@@ -18,6 +18,7 @@ class RetryableEmailSenderTest {
 
     private RetryableEmailSender sut;
     private EmailSender delegate;
+    private Long emailOutboxId;
     private List<String> recipients;
     private String subject;
     private String body;
@@ -28,6 +29,7 @@ class RetryableEmailSenderTest {
         var retryRegistry = RetryRegistry.ofDefaults();
         sut = new RetryableEmailSender(delegate, retryRegistry, "testRetry", 3, 10);
 
+        emailOutboxId = 1L;
         recipients = List.of("user@example.com");
         subject = "테스트 이메일";
         body = "본문 내용입니다.";
@@ -36,10 +38,10 @@ class RetryableEmailSenderTest {
     @Test
     void 첫번째_시도에_성공하면_재시도하지_않는다() {
         // when
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(emailOutboxId, recipients, subject, body);
 
         // then
-        verify(delegate, times(1)).sendEmails(recipients, subject, body);
+        verify(delegate, times(1)).sendEmails(emailOutboxId, recipients, subject, body);
     }
 
     @Test
@@ -51,13 +53,13 @@ class RetryableEmailSenderTest {
         doThrow(ex)
                 .doNothing()
                 .when(delegate)
-                .sendEmails(recipients, subject, body);
+                .sendEmails(emailOutboxId, recipients, subject, body);
 
         // when
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(emailOutboxId, recipients, subject, body);
 
         // then
-        verify(delegate, times(2)).sendEmails(recipients, subject, body);
+        verify(delegate, times(2)).sendEmails(emailOutboxId, recipients, subject, body);
     }
 
     @Test
@@ -68,12 +70,12 @@ class RetryableEmailSenderTest {
 
         doThrow(ex)
                 .when(delegate)
-                .sendEmails(recipients, subject, body);
+                .sendEmails(emailOutboxId, recipients, subject, body);
 
         // when & then
-        assertThatThrownBy(() -> sut.sendEmails(recipients, subject, body))
+        assertThatThrownBy(() -> sut.sendEmails(emailOutboxId, recipients, subject, body))
                 .isInstanceOf(MailSendException.class);
 
-        verify(delegate, times(3)).sendEmails(recipients, subject, body);
+        verify(delegate, times(3)).sendEmails(emailOutboxId, recipients, subject, body);
     }
 }
@@ -0,0 +1,98 @@
+package com.ahmadda.infra.notification.mail.adapter;
+
+import com.ahmadda.domain.notification.EventEmailPayload;
+import com.ahmadda.infra.notification.config.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventEmailBodyCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    TemplateEngine templateEngine;
+    EventEmailBodyCache sut;
+
+    @BeforeEach
+    void setUp() {
+        templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.process(eq("mail/event-notification"), any(IContext.class)))
+                .thenReturn("첫 번째 본문")
+                .thenReturn("두 번째 본문");
+        sut = new EventEmailBodyCache(
+                templateEngine,
+                new NotificationProperties("https://ahmadda.com/"),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void 같은_내용의_본문은_한_번만_렌더링한다() {
+        // given
+        var payload = createPayload("리마인더 내용");
+
+        // when
+        var first = sut.render(payload);
+        var second = sut.render(createPayload("리마인더 내용"));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first)
+                    .isEqualTo("첫 번째 본문");
+            softly.assertThat(second)
+                    .isEqualTo("첫 번째 본문");
+        });
+        verify(templateEngine, times(1)).process(eq("mail/event-notification"), any(IContext.class));
+    }
+
+    @Test
+    void 내용이_다르면_다시_렌더링한다() {
+        // given
+        var payload = createPayload("리마인더 내용");
+        var otherPayload = createPayload("다른 리마인더 내용");
+
+        // when
+        var first = sut.render(payload);
+        var second = sut.render(otherPayload);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first)
+                    .isEqualTo("첫 번째 본문");
+            softly.assertThat(second)
+                    .isEqualTo("두 번째 본문");
+        });
+        verify(templateEngine, times(2)).process(eq("mail/event-notification"), any(IContext.class));
+    }
+
+    private EventEmailPayload createPayload(String content) {
+        return new EventEmailPayload(
+                new EventEmailPayload.Subject("아맞다 스페이스", "개발자 밋업"),
+                new EventEmailPayload.Body(
+                        content,
+                        "아맞다 스페이스",
+                        "개발자 밋업",
+                        "머피,훌라",
+                        "잠실 D타워",
+                        NOW.minusDays(3),
+                        NOW.minusDays(1),
+                        NOW.plusDays(1),
+                        NOW.plusDays(2),
+                        1L,
+                        2L
+                )
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import com.ahmadda.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EmailOutboxContentStoreTest extends IntegrationTest {
+
+    private static final String SUBJECT = "아맞다 이벤트 안내";
+    private static final String BODY = "이벤트에 참여해주셔서 감사합니다.";
+
+    @Autowired
+    private EmailOutboxContentStore sut;
+
+    @Autowired
+    private EmailOutboxContentRepository emailOutboxContentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 같은_본문을_여러_번_획득하면_한_번만_저장하고_참조_수를_늘린다() {
+        // given
+        commitTestTransaction();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> sut.acquire(SUBJECT, BODY));
+        transactionTemplate.executeWithoutResult(status -> sut.acquire(SUBJECT, BODY));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(emailOutboxContentRepository.count())
+                    .isEqualTo(1);
+            softly.assertThat(getReferenceCount(EmailOutboxContent.hash(SUBJECT, BODY)))
+                    .isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 획득과_해제가_동시에_일어나도_획득은_실패하지_않는다() throws InterruptedException {
+        // given
+        commitTestTransaction();
+
+        var taskCount = 200;
+        var executorService = Executors.newFixedThreadPool(16);
+        var latch = new CountDownLatch(taskCount);
+        var failureCount = new AtomicInteger();
+
+        try {
+            // when
+            for (int i = 0; i < taskCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        var content = transactionTemplate.execute(status -> sut.acquire(SUBJECT, BODY));
+                        transactionTemplate.executeWithoutResult(status -> sut.release(content));
+                    } catch (RuntimeException e) {
+                        failureCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(failureCount.get())
+                        .isZero();
+                softly.assertThat(emailOutboxContentRepository.count())
+                        .isZero();
+            });
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private int getReferenceCount(String contentHash) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reference_count FROM email_outbox_content WHERE content_hash = ?",
+                Integer.class,
+                contentHash
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import com.ahmadda.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EmailOutboxFailureHandlerTest extends IntegrationTest {
+
+    @Autowired
+    private EmailOutboxFailureHandler sut;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxContentRepository emailOutboxContentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 발송_한도로_미룬_시도는_시도_횟수에서_빼고_곧_다시_보낸다() {
+        // given
+        var outbox = createStartedOutbox();
+        var before = outbox.getNextAttemptAt();
+
+        // when
+        sut.handleDeferral(outbox.getId(), "발송 한도를 초과해 발송을 미뤘습니다. provider: google");
+
+        // then
+        var updated = findOutbox(outbox.getId());
+        assertSoftly(softly -> {
+            softly.assertThat(updated.getAttemptCount())
+                    .isEqualTo(1);
+            softly.assertThat(updated.getNextAttemptAt())
+                    .isBefore(before);
+            softly.assertThat(updated.getLastError())
+                    .contains("발송 한도");
+        });
+    }
+
+    @Test
+    void 같은_시도를_청크마다_미뤄도_시도_횟수는_한_번만_뺀다() {
+        // given
+        var outbox = createStartedOutbox();
+
+        // when
+        sut.handleDeferral(outbox.getId(), "발송 한도를 초과해 발송을 미뤘습니다. provider: google");
+        sut.handleDeferral(outbox.getId(), "발송 한도를 초과해 발송을 미뤘습니다. provider: google");
+
+        // then
+        assertThat(findOutbox(outbox.getId()).getAttemptCount()).isEqualTo(1);
+    }
+
+    private EmailOutbox createStartedOutbox() {
+        var content = emailOutboxContentRepository.save(EmailOutboxContent.create("한도 테스트", "내용"));
+        var outbox = EmailOutbox.create(
+                content,
+                LocalDateTime.now()
+                        .minusMinutes(10),
+                LocalDateTime.now()
+                        .minusMinutes(20)
+        );
+        outbox.startAttempt();
+
+        return emailOutboxRepository.save(outbox);
+    }
+
+    private EmailOutbox findOutbox(Long emailOutboxId) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return emailOutboxRepository.findById(emailOutboxId)
+                .orElseThrow();
+    }
+}
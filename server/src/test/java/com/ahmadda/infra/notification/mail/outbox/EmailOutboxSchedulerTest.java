@@ -3,13 +3,18 @@ package com.ahmadda.infra.notification.mail.outbox;
 import com.ahmadda.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class EmailOutboxSchedulerTest extends IntegrationTest {
@@ -23,12 +28,17 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
     @Autowired
     private EmailOutboxRecipientRepository emailOutboxRecipientRepository;
 
+    @Autowired
+    private EmailOutboxContentRepository emailOutboxContentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void 수신자가_존재하는_아웃박스는_재전송된다() {
         // given
         var outbox = EmailOutbox.create(
-                "테스트 제목",
-                "본문 내용",
+                createContent("테스트 제목", "본문 내용"),
                 LocalDateTime.now()
                         .minusMinutes(10),
                 LocalDateTime.now()
@@ -46,6 +56,7 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
 
         // then
         verify(emailSender).sendEmails(
+                eq(outbox.getId()),
                 eq(List.of("a@test.com", "b@test.com")),
                 eq("테스트 제목"),
                 eq("본문 내용")
@@ -56,8 +67,7 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
     void 수신자가_없으면_아웃박스는_삭제된다() {
         // given
         var outbox = EmailOutbox.create(
-                "빈 아웃박스",
-                "내용 없음",
+                createContent("빈 아웃박스", "내용 없음"),
                 LocalDateTime.now()
                         .minusMinutes(10),
                 LocalDateTime.now()
@@ -75,11 +85,10 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
     }
 
     @Test
-    void 만료된_락을_가진_아웃박스만_재전송된다() {
+    void 다음_시도_일시가_지난_아웃박스만_재전송된다() {
         // given
         var expired = EmailOutbox.create(
-                "제목1",
-                "본문1",
+                createContent("제목1", "본문1"),
                 LocalDateTime.now()
                         .minusMinutes(10),
                 LocalDateTime.now()
@@ -88,9 +97,9 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
         var expiredRecipient = EmailOutboxRecipient.create(expired, "expired@test.com");
 
         var fresh = EmailOutbox.create(
-                "제목2",
-                "본문2",
-                LocalDateTime.now(),
+                createContent("제목2", "본문2"),
+                LocalDateTime.now()
+                        .plusMinutes(5),
                 LocalDateTime.now()
         );
         var freshRecipient = EmailOutboxRecipient.create(fresh, "fresh@test.com");
@@ -103,11 +112,13 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
 
         // then
         verify(emailSender).sendEmails(
+                eq(expired.getId()),
                 eq(List.of("expired@test.com")),
                 eq("제목1"),
                 eq("본문1")
         );
         verify(emailSender, never()).sendEmails(
+                eq(fresh.getId()),
                 eq(List.of("fresh@test.com")),
                 eq("제목2"),
                 eq("본문2")
@@ -115,11 +126,10 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
     }
 
     @Test
-    void 재전송된_아웃박스의_잠금_일시가_갱신된다() {
+    void 재전송된_아웃박스는_시도_횟수가_늘고_다음_시도_일시가_미뤄진다() {
         // given
         var outbox = EmailOutbox.create(
-                "락 갱신 테스트",
-                "내용",
+                createContent("락 갱신 테스트", "내용"),
                 LocalDateTime.now()
                         .minusMinutes(10),
                 LocalDateTime.now()
@@ -128,7 +138,7 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
         emailOutboxRepository.save(outbox);
         var recipient = EmailOutboxRecipient.create(outbox, "lock@test.com");
         emailOutboxRecipientRepository.save(recipient);
-        var before = outbox.getLockedAt();
+        var before = outbox.getNextAttemptAt();
 
         // when
         sut.resendFailedEmails();
@@ -136,9 +146,77 @@ class EmailOutboxSchedulerTest extends IntegrationTest {
         // then
         var updated = emailOutboxRepository.findById(outbox.getId())
                 .get();
-        assertSoftly(softly ->
-                softly.assertThat(updated.getLockedAt())
-                        .isAfter(before)
+        assertSoftly(softly -> {
+            softly.assertThat(updated.getAttemptCount())
+                    .isEqualTo(2);
+            softly.assertThat(updated.getNextAttemptAt())
+                    .isAfter(LocalDateTime.now());
+            softly.assertThat(updated.getNextAttemptAt())
+                    .isAfter(before);
+        });
+    }
+
+    @Test
+    void 적체된_아웃박스가_한_배치보다_많으면_모두_재발송한다() {
+        // given
+        var content = createContent("적체 테스트", "내용");
+        for (int i = 0; i < 51; i++) {
+            var outbox = EmailOutbox.create(
+                    content,
+                    LocalDateTime.now()
+                            .minusMinutes(10),
+                    LocalDateTime.now()
+                            .minusMinutes(20)
+            );
+            emailOutboxRepository.save(outbox);
+            emailOutboxRecipientRepository.save(EmailOutboxRecipient.create(outbox, "backlog" + i + "@test.com"));
+        }
+
+        // when
+        sut.resendFailedEmails();
+
+        // then
+        verify(emailSender, times(51)).sendEmails(anyLong(), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    void 최대_시도_횟수를_채운_아웃박스는_재전송하지_않고_DEAD_상태가_된다() {
+        // given
+        var outbox = EmailOutbox.create(
+                createContent("시도 초과", "내용"),
+                LocalDateTime.now()
+                        .minusMinutes(10),
+                LocalDateTime.now()
+                        .minusDays(1)
         );
+        for (int i = 1; i < EmailOutbox.MAX_ATTEMPTS; i++) {
+            outbox.startAttempt();
+        }
+        emailOutboxRepository.save(outbox);
+        emailOutboxRecipientRepository.save(EmailOutboxRecipient.create(outbox, "dead@test.com"));
+        jdbcTemplate.update(
+                "update email_outbox set next_attempt_at = ? where email_outbox_id = ?",
+                LocalDateTime.now()
+                        .minusMinutes(1),
+                outbox.getId()
+        );
+
+        // when
+        sut.resendFailedEmails();
+
+        // then
+        var updated = emailOutboxRepository.findById(outbox.getId())
+                .get();
+        assertSoftly(softly -> {
+            softly.assertThat(updated.getStatus())
+                    .isEqualTo(EmailOutboxStatus.DEAD);
+            softly.assertThat(emailOutboxRecipientRepository.findAll())
+                    .hasSize(1);
+        });
+        verify(emailSender, never()).sendEmails(anyLong(), anyList(), anyString(), anyString());
+    }
+
+    private EmailOutboxContent createContent(String subject, String body) {
+        return emailOutboxContentRepository.save(EmailOutboxContent.create(subject, body));
     }
 }
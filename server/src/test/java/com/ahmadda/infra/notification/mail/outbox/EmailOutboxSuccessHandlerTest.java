@@ -19,13 +19,16 @@ class EmailOutboxSuccessHandlerTest extends IntegrationTest {
     @Autowired
     private EmailOutboxRecipientRepository emailOutboxRecipientRepository;
 
+    @Autowired
+    private EmailOutboxContentRepository emailOutboxContentRepository;
+
     @Test
     void 발송_성공시_해당_수신자를_삭제하고_남은_수신자는_유지된다() {
         // given
         var subject = "아맞다 이벤트 안내";
         var body = "이벤트에 참여해주셔서 감사합니다.";
 
-        var outbox = emailOutboxRepository.save(EmailOutbox.createNow(subject, body));
+        var outbox = emailOutboxRepository.save(EmailOutbox.createNow(createContent(subject, body)));
 
         var recipients = List.of(
                 EmailOutboxRecipient.create(outbox, "user1@email.com"),
@@ -34,7 +37,7 @@ class EmailOutboxSuccessHandlerTest extends IntegrationTest {
         emailOutboxRecipientRepository.saveAll(recipients);
 
         // when
-        sut.handleSuccess("user1@email.com", subject, body);
+        sut.handleSuccess(outbox.getId(), List.of("user1@email.com"));
 
         // then
         var remaining = emailOutboxRecipientRepository.findAll()
@@ -49,20 +52,25 @@ class EmailOutboxSuccessHandlerTest extends IntegrationTest {
     }
 
     @Test
-    void 모든_수신자가_삭제되면_아웃박스도_삭제된다() {
+    void 모든_수신자가_삭제되면_아웃박스와_본문도_삭제된다() {
         // given
         var subject = "빈 아웃박스 테스트";
         var body = "본문";
 
-        var outbox = emailOutboxRepository.save(EmailOutbox.createNow(subject, body));
+        var outbox = emailOutboxRepository.save(EmailOutbox.createNow(createContent(subject, body)));
         var recipient = EmailOutboxRecipient.create(outbox, "user1@email.com");
         emailOutboxRecipientRepository.save(recipient);
 
         // when
-        sut.handleSuccess("user1@email.com", subject, body);
+        sut.handleSuccess(outbox.getId(), List.of("user1@email.com"));
 
         // then
         assertThat(emailOutboxRecipientRepository.findAll()).isEmpty();
         assertThat(emailOutboxRepository.findAll()).isEmpty();
+        assertThat(emailOutboxContentRepository.findAll()).isEmpty();
+    }
+
+    private EmailOutboxContent createContent(String subject, String body) {
+        return emailOutboxContentRepository.save(EmailOutboxContent.create(subject, body));
     }
 }
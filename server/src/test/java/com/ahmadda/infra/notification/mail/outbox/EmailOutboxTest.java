@@ -0,0 +1,63 @@
+package com.ahmadda.infra.notification.mail.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EmailOutboxTest {
+
+    @Test
+    void 재시도_대기_시간은_두_배씩_늘고_최대_대기_시간을_넘지_않는다() {
+        // when // then
+        assertSoftly(softly -> {
+            softly.assertThat(EmailOutbox.backoff(1))
+                    .isEqualTo(Duration.ofMinutes(5));
+            softly.assertThat(EmailOutbox.backoff(2))
+                    .isEqualTo(Duration.ofMinutes(10));
+            softly.assertThat(EmailOutbox.backoff(4))
+                    .isEqualTo(Duration.ofMinutes(40));
+            softly.assertThat(EmailOutbox.backoff(EmailOutbox.MAX_ATTEMPTS))
+                    .isEqualTo(Duration.ofHours(6));
+        });
+    }
+
+    @Test
+    void 시도를_시작하면_시도_횟수가_늘고_다음_시도_일시가_미뤄진다() {
+        // given
+        var sut = EmailOutbox.createNow(EmailOutboxContent.create("제목", "본문"));
+
+        // when
+        sut.startAttempt();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.getAttemptCount())
+                    .isEqualTo(2);
+            softly.assertThat(sut.getNextAttemptAt())
+                    .isAfter(LocalDateTime.now()
+                            .plusMinutes(9));
+        });
+    }
+
+    @Test
+    void 최대_시도_횟수를_채우면_재시도를_소진한다() {
+        // given
+        var sut = EmailOutbox.createNow(EmailOutboxContent.create("제목", "본문"));
+
+        // when
+        for (int i = 1; i < EmailOutbox.MAX_ATTEMPTS; i++) {
+            sut.startAttempt();
+        }
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.getAttemptCount())
+                    .isEqualTo(EmailOutbox.MAX_ATTEMPTS);
+            softly.assertThat(sut.isRetryExhausted())
+                    .isTrue();
+        });
+    }
+}
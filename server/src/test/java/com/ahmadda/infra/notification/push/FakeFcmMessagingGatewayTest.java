@@ -0,0 +1,64 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class FakeFcmMessagingGatewayTest {
+
+    private static final FcmPushContent CONTENT =
+            new FcmPushContent("제목", "본문", "http://localhost:5173/1/event/1");
+
+    @Test
+    void 실패_비율이_0이면_모든_토큰에_성공을_돌려준다() {
+        // given
+        var sut = new FakeFcmMessagingGateway(Duration.ZERO, 0, 0, 0);
+
+        // when
+        var responses = sut.sendMulticast(CONTENT, List.of("token-a", "token-b"));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(responses)
+                    .hasSize(2)
+                    .allMatch(FcmSendResponse::successful);
+            softly.assertThat(sut.getMulticastCount())
+                    .isEqualTo(1);
+            softly.assertThat(sut.getTokenCount())
+                    .isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 토큰별_실패를_흉내_낸다() {
+        // given
+        var sut = new FakeFcmMessagingGateway(Duration.ZERO, 1, 0, 0);
+
+        // when
+        var responses = sut.validate(List.of("token-a", "token-b"));
+
+        // then
+        assertSoftly(softly -> softly.assertThat(responses)
+                .extracting(FcmSendResponse::errorCode)
+                .containsOnly(MessagingErrorCode.UNREGISTERED));
+    }
+
+    @Test
+    void 할당량_초과를_흉내_내면_요청_전체가_실패한다() {
+        // given
+        var sut = new FakeFcmMessagingGateway(Duration.ZERO, 0, 0, 1);
+
+        // when // then
+        assertThatThrownBy(() -> sut.sendMulticast(CONTENT, List.of("token-a")))
+                .isInstanceOf(FcmMulticastException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    }
+}
@@ -1,24 +1,38 @@
 package com.ahmadda.infra.notification.push;
 
+import com.ahmadda.infra.notification.push.exception.FcmMulticastException;
 import com.ahmadda.support.IntegrationTest;
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.ErrorCode;
 import com.google.firebase.messaging.MessagingErrorCode;
-import com.google.firebase.messaging.SendResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 class FcmPushErrorHandlerTest extends IntegrationTest {
 
+    private static final FcmPushContent CONTENT =
+            new FcmPushContent("제목", "본문", "http://localhost:5173/1/event/1");
+
+    @Autowired
+    private FcmPushErrorHandler sut;
+
     @Autowired
     private FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
 
+    @Autowired
+    private FcmPushRetryRepository fcmPushRetryRepository;
+
     @Test
     void 요청_실패시_유효하지_않는_토큰이_있으면_제거한다() {
         // given
@@ -26,23 +40,153 @@ class FcmPushErrorHandlerTest extends IntegrationTest {
         var saved = fcmRegistrationTokenRepository.save(
                 FcmRegistrationToken.createNow(1L, tokenValue)
         );
+        var response = FcmSendResponse.failure(MessagingErrorCode.UNREGISTERED, Duration.ZERO);
 
-        var exception = mock(FirebaseMessagingException.class);
-        when(exception.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+        // when
+        sut.handleFailures(CONTENT, List.of(response), List.of(tokenValue));
 
-        var response = mock(SendResponse.class);
-        when(response.isSuccessful()).thenReturn(false);
-        when(response.getException()).thenReturn(exception);
+        // then
+        assertThat(fcmRegistrationTokenRepository.findById(saved.getId())).isEmpty();
+    }
 
-        var batchResponse = mock(BatchResponse.class);
-        when(batchResponse.getResponses()).thenReturn(List.of(response));
+    @Test
+    void 일시적인_오류로_실패한_토큰만_재시도_대상으로_등록한다() {
+        // given
+        var succeeded = FcmSendResponse.success();
+        var unavailable = FcmSendResponse.failure(MessagingErrorCode.UNAVAILABLE, Duration.ZERO);
 
-        var sut = new FcmPushErrorHandler(fcmRegistrationTokenRepository);
+        // when
+        var rescheduled = sut.handleFailures(
+                CONTENT,
+                List.of(succeeded, unavailable),
+                List.of("ok-token", "retry-token")
+        );
+
+        // then
+        var retries = fcmPushRetryRepository.findAll();
+        assertSoftly(softly -> {
+            softly.assertThat(rescheduled)
+                    .containsExactly("retry-token");
+            softly.assertThat(retries)
+                    .extracting(FcmPushRetry::getRegistrationToken)
+                    .containsExactly("retry-token");
+            softly.assertThat(retries.get(0)
+                            .getContent())
+                    .isEqualTo(CONTENT);
+            softly.assertThat(retries.get(0)
+                            .getNextAttemptAt())
+                    .isAfter(LocalDateTime.now());
+        });
+    }
+
+    @Test
+    void 이미_재시도_중인_토큰이_다시_실패하면_중복으로_등록하지_않는다() {
+        // given
+        var unavailable = FcmSendResponse.failure(MessagingErrorCode.UNAVAILABLE, Duration.ZERO);
+        sut.handleFailures(CONTENT, List.of(unavailable), List.of("retry-token"));
 
         // when
-        sut.handleFailures(batchResponse, List.of(tokenValue));
+        sut.handleFailures(CONTENT, List.of(unavailable), List.of("retry-token"));
 
         // then
-        assertThat(fcmRegistrationTokenRepository.findById(saved.getId())).isEmpty();
+        assertThat(fcmPushRetryRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void 이미_재시도_중인_토큰이_Retry_After와_함께_다시_실패하면_다음_시도를_미룬다() {
+        // given
+        var unavailable = FcmSendResponse.failure(MessagingErrorCode.UNAVAILABLE, Duration.ZERO);
+        sut.handleFailures(CONTENT, List.of(unavailable), List.of("retry-token"));
+        var quotaExceeded = FcmSendResponse.failure(MessagingErrorCode.QUOTA_EXCEEDED, Duration.ofMinutes(10));
+
+        // when
+        sut.handleFailures(CONTENT, List.of(quotaExceeded), List.of("retry-token"));
+
+        // then
+        var retryAfter = LocalDateTime.now()
+                .plusMinutes(9);
+        assertThat(fcmPushRetryRepository.findAll())
+                .extracting(FcmPushRetry::getNextAttemptAt)
+                .singleElement()
+                .matches(nextAttemptAt -> nextAttemptAt.isAfter(retryAfter));
+    }
+
+    @Test
+    void 같은_토큰이_동시에_재시도_대상으로_등록되어도_만료된_토큰_삭제는_롤백되지_않는다() throws InterruptedException {
+        // given
+        var taskCount = 32;
+        var expiredTokens = new ArrayList<String>();
+        for (int i = 0; i < taskCount; i++) {
+            var expiredToken = "expired-token-" + i;
+            fcmRegistrationTokenRepository.save(FcmRegistrationToken.createNow((long) i, expiredToken));
+            expiredTokens.add(expiredToken);
+        }
+
+        commitTestTransaction();
+
+        var unregistered = FcmSendResponse.failure(MessagingErrorCode.UNREGISTERED, Duration.ZERO);
+        var unavailable = FcmSendResponse.failure(MessagingErrorCode.UNAVAILABLE, Duration.ZERO);
+        var executorService = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(taskCount);
+        var failureCount = new AtomicInteger();
+
+        try {
+            // when
+            for (var expiredToken : expiredTokens) {
+                executorService.submit(() -> {
+                    try {
+                        sut.handleFailures(
+                                CONTENT,
+                                List.of(unregistered, unavailable),
+                                List.of(expiredToken, "shared-retry-token")
+                        );
+                    } catch (RuntimeException ex) {
+                        failureCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(30, TimeUnit.SECONDS);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(failureCount.get())
+                        .isZero();
+                softly.assertThat(fcmRegistrationTokenRepository.count())
+                        .isZero();
+                softly.assertThat(fcmPushRetryRepository.findAll())
+                        .extracting(FcmPushRetry::getRegistrationToken)
+                        .containsExactly("shared-retry-token");
+            });
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void 요청이_할당량_초과로_실패하면_Retry_After_이후로_배치의_모든_토큰을_재시도_대상으로_등록한다() {
+        // given
+        var exception = new FcmMulticastException(
+                "quota exceeded",
+                ErrorCode.RESOURCE_EXHAUSTED,
+                Duration.ofMinutes(10),
+                null
+        );
+
+        // when
+        var rescheduled = sut.handleBatchFailure(CONTENT, List.of("token-a", "token-b"), exception);
+
+        // then
+        var retryAfter = LocalDateTime.now()
+                .plusMinutes(9);
+        assertSoftly(softly -> {
+            softly.assertThat(rescheduled)
+                    .containsExactly("token-a", "token-b");
+            softly.assertThat(fcmPushRetryRepository.findAll())
+                    .extracting(FcmPushRetry::getNextAttemptAt)
+                    .hasSize(2)
+                    .allMatch(nextAttemptAt -> nextAttemptAt.isAfter(retryAfter));
+        });
     }
 }
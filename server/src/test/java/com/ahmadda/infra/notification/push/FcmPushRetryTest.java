@@ -0,0 +1,57 @@
+package com.ahmadda.infra.notification.push;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class FcmPushRetryTest {
+
+    private static final FcmPushContent CONTENT =
+            new FcmPushContent("제목", "본문", "http://localhost:5173/1/event/1");
+
+    @Test
+    void 재시도_대기_시간은_지터를_섞어_두_배씩_늘고_최대_대기_시간을_넘지_않는다() {
+        // when // then
+        assertSoftly(softly -> {
+            softly.assertThat(FcmPushRetry.backoff(1))
+                    .isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+            softly.assertThat(FcmPushRetry.backoff(3))
+                    .isBetween(Duration.ofSeconds(60), Duration.ofSeconds(120));
+            softly.assertThat(FcmPushRetry.backoff(20))
+                    .isBetween(Duration.ofMinutes(15), Duration.ofMinutes(30));
+        });
+    }
+
+    @Test
+    void Retry_After가_백오프보다_길면_그때까지_재시도하지_않는다() {
+        // when
+        var sut = FcmPushRetry.create(CONTENT, "token", Duration.ofMinutes(10));
+
+        // then
+        assertSoftly(softly -> softly.assertThat(sut.getNextAttemptAt())
+                .isAfter(LocalDateTime.now()
+                        .plusMinutes(9)));
+    }
+
+    @Test
+    void 최대_시도_횟수를_채우면_재시도를_소진한다() {
+        // given
+        var sut = FcmPushRetry.create(CONTENT, "token", Duration.ZERO);
+
+        // when
+        for (int i = 0; i < FcmPushRetry.MAX_ATTEMPTS; i++) {
+            sut.startAttempt();
+        }
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(sut.getAttemptCount())
+                    .isEqualTo(FcmPushRetry.MAX_ATTEMPTS);
+            softly.assertThat(sut.isRetryExhausted())
+                    .isTrue();
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.ahmadda.infra.notification.push;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FcmRegistrationTokenCacheTest {
+
+    FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+    FcmRegistrationTokenCache sut;
+
+    @BeforeEach
+    void setUp() {
+        fcmRegistrationTokenRepository = mock(FcmRegistrationTokenRepository.class);
+        sut = new FcmRegistrationTokenCache(fcmRegistrationTokenRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 여러_회원의_토큰을_한_번에_조회하고_이후에는_캐시에서_읽는다() {
+        // given
+        when(fcmRegistrationTokenRepository.findAllByMemberIdIn(anyList())).thenReturn(List.of(
+                token(1L, "token-a"),
+                token(1L, "token-a"),
+                token(2L, "token-b")
+        ));
+
+        // when
+        var first = sut.getRegistrationTokens(List.of(1L, 2L, 3L));
+        var second = sut.getRegistrationTokens(List.of(1L, 2L, 3L));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first)
+                    .containsExactlyInAnyOrder("token-a", "token-b");
+            softly.assertThat(second)
+                    .containsExactlyInAnyOrder("token-a", "token-b");
+        });
+        verify(fcmRegistrationTokenRepository, times(1)).findAllByMemberIdIn(anyList());
+    }
+
+    @Test
+    void 토큰이_바뀐_회원은_무효화되어_다시_조회한다() {
+        // given
+        when(fcmRegistrationTokenRepository.findAllByMemberId(1L))
+                .thenReturn(List.of(token(1L, "token-a")))
+                .thenReturn(List.of(token(1L, "token-a"), token(1L, "token-c")));
+        sut.getRegistrationTokens(1L);
+
+        // when
+        sut.onFcmRegistrationTokenChanged(new FcmRegistrationTokenChanged(Set.of(1L)));
+        var reloaded = sut.getRegistrationTokens(1L);
+
+        // then
+        assertSoftly(softly -> softly.assertThat(reloaded)
+                .containsExactly("token-a", "token-c"));
+        verify(fcmRegistrationTokenRepository, times(2)).findAllByMemberId(1L);
+    }
+
+    @Test
+    void 일괄_조회_중에_무효화된_회원은_이전_토큰을_캐시에_남기지_않는다() {
+        // given
+        when(fcmRegistrationTokenRepository.findAllByMemberIdIn(anyList()))
+                .thenAnswer(invocation -> {
+                    sut.onFcmRegistrationTokenChanged(new FcmRegistrationTokenChanged(Set.of(1L)));
+                    return List.of(token(1L, "token-a"));
+                })
+                .thenReturn(List.of(token(1L, "token-c")));
+        sut.getRegistrationTokens(List.of(1L));
+
+        // when
+        var reloaded = sut.getRegistrationTokens(List.of(1L));
+
+        // then
+        assertSoftly(softly -> softly.assertThat(reloaded)
+                .containsExactly("token-c"));
+        verify(fcmRegistrationTokenRepository, times(2)).findAllByMemberIdIn(anyList());
+    }
+
+    private FcmRegistrationToken token(Long memberId, String registrationToken) {
+        return FcmRegistrationToken.create(memberId, registrationToken, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmRegistrationTokenExpirationCleanerTest extends IntegrationTest {
+
+    @Autowired
+    private FcmRegistrationTokenExpirationCleaner sut;
+
+    @Autowired
+    private FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+
+    @Test
+    void 만료_기간_동안_갱신되지_않은_토큰만_삭제한다() {
+        // given
+        var now = LocalDateTime.now();
+        fcmRegistrationTokenRepository.save(FcmRegistrationToken.create(1L, "stale-token", now.minusDays(61)));
+        fcmRegistrationTokenRepository.save(FcmRegistrationToken.create(1L, "fresh-token", now.minusDays(59)));
+
+        // when
+        sut.pruneStaleRegistrationTokens();
+
+        // then
+        assertThat(fcmRegistrationTokenRepository.findAll())
+                .extracting(FcmRegistrationToken::getRegistrationToken)
+                .containsExactly("fresh-token");
+    }
+
+    @Test
+    void 한_번에_지울_수_있는_수보다_많은_토큰도_모두_삭제한다() {
+        // given
+        var expiredAt = LocalDateTime.now()
+                .minusDays(90);
+        IntStream.range(0, 501)
+                .forEach(i -> fcmRegistrationTokenRepository.save(
+                        FcmRegistrationToken.create((long) i, "stale-token-" + i, expiredAt)
+                ));
+
+        // when
+        sut.pruneStaleRegistrationTokens();
+
+        // then
+        assertThat(fcmRegistrationTokenRepository.count()).isZero();
+    }
+}
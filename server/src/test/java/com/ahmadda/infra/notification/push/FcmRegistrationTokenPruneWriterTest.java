@@ -0,0 +1,44 @@
+package com.ahmadda.infra.notification.push;
+
+import com.ahmadda.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class FcmRegistrationTokenPruneWriterTest extends IntegrationTest {
+
+    @Autowired
+    private FcmRegistrationTokenPruneWriter sut;
+
+    @Autowired
+    private FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+
+    @Test
+    void 호출한_쪽에_트랜잭션이_없어도_갱신과_삭제를_함께_반영한다() {
+        // given
+        var expiredAt = LocalDateTime.now()
+                .minusDays(90);
+        var accepted = fcmRegistrationTokenRepository.save(FcmRegistrationToken.create(1L, "accepted-token", expiredAt));
+        var rejected = fcmRegistrationTokenRepository.save(FcmRegistrationToken.create(2L, "rejected-token", expiredAt));
+
+        commitTestTransaction();
+
+        // when
+        sut.write(List.of(accepted), List.of(rejected));
+
+        // then
+        var refreshedAfter = LocalDateTime.now()
+                .minusMinutes(1);
+        assertSoftly(softly -> {
+            softly.assertThat(fcmRegistrationTokenRepository.findById(accepted.getId()))
+                    .hasValueSatisfying(token -> softly.assertThat(token.getTimeStamp())
+                            .isAfter(refreshedAfter));
+            softly.assertThat(fcmRegistrationTokenRepository.findById(rejected.getId()))
+                    .isEmpty();
+        });
+    }
+}
@@ -18,6 +18,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -41,62 +42,63 @@ class FailoverEmailSenderTest {
     @Qualifier("secondarySender")
     private EmailSender secondarySender;
 
+    private final Long emailOutboxId = 1L;
     private final List<String> recipients = List.of("test@example.com");
     private final String subject = "테스트 이메일 제목";
     private final String body = "테스트 이메일 본문입니다.";
 
     @Test
     void 실제_Failover_구조에서_정상적으로_메일을_발송한다() {
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(emailOutboxId, recipients, subject, body);
 
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(primarySender, times(1))
-                        .sendEmails(recipients, subject, body));
+                        .sendEmails(emailOutboxId, recipients, subject, body));
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(secondarySender, times(0))
-                        .sendEmails(anyList(), anyString(), anyString()));
+                        .sendEmails(anyLong(), anyList(), anyString(), anyString()));
     }
 
     @Test
     void PrimarySMTP_실패시_SecondarySMTP로_Failover한다() {
         doThrow(new MailSendException("primary 실패"))
                 .when(primarySender)
-                .sendEmails(recipients, subject, body);
+                .sendEmails(emailOutboxId, recipients, subject, body);
 
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(emailOutboxId, recipients, subject, body);
 
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(primarySender, times(1))
-                        .sendEmails(recipients, subject, body));
+                        .sendEmails(emailOutboxId, recipients, subject, body));
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(secondarySender, times(1))
-                        .sendEmails(recipients, subject, body));
+                        .sendEmails(emailOutboxId, recipients, subject, body));
     }
 
     @Test
     void PrimarySMTP가_연속_실패하면_CircuitBreaker가_OPEN되어_Secondary로_즉시_Fallback한다() throws Exception {
         doThrow(new MailSendException("primary 실패"))
                 .when(primarySender)
-                .sendEmails(recipients, subject, body);
+                .sendEmails(emailOutboxId, recipients, subject, body);
 
         // 3회 실패 → CircuitBreaker OPEN
         for (int i = 0; i < 3; i++) {
             try {
-                sut.sendEmails(recipients, subject, body);
+                sut.sendEmails(emailOutboxId, recipients, subject, body);
                 Thread.sleep(7000); // CircuitBreaker transition을 위한 대기
             } catch (Exception ignored) {
             }
         }
 
         // 4번째 호출 → 바로 secondary로 fallback
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(emailOutboxId, recipients, subject, body);
 
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(primarySender, times(3))
-                        .sendEmails(recipients, subject, body));
+                        .sendEmails(emailOutboxId, recipients, subject, body));
         await().atMost(3, TimeUnit.SECONDS)
                 .untilAsserted(() -> verify(secondarySender, times(4))
-                        .sendEmails(recipients, subject, body));
+                        .sendEmails(emailOutboxId, recipients, subject, body));
     }
 
     @TestConfiguration
@@ -0,0 +1,236 @@
+package com.ahmadda.learning.infra.notification;
+
+import com.ahmadda.domain.event.Event;
+import com.ahmadda.domain.event.EventOperationPeriod;
+import com.ahmadda.domain.event.EventRepository;
+import com.ahmadda.domain.member.Member;
+import com.ahmadda.domain.member.MemberRepository;
+import com.ahmadda.domain.notification.Reminder;
+import com.ahmadda.domain.organization.Organization;
+import com.ahmadda.domain.organization.OrganizationGroup;
+import com.ahmadda.domain.organization.OrganizationGroupRepository;
+import com.ahmadda.domain.organization.OrganizationMember;
+import com.ahmadda.domain.organization.OrganizationMemberRepository;
+import com.ahmadda.domain.organization.OrganizationMemberRole;
+import com.ahmadda.domain.organization.OrganizationRepository;
+import com.ahmadda.support.EmbeddedSmtpTest;
+import com.ahmadda.support.MailPipelineStatementInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 내장 SMTP 서버로 리마인더 메일 발송 체인 전체(Reminder → 아웃박스 → 장애 전환 → 재시도 → BCC 청크 → 발송 한도 → SMTP)를 실행한다.
+ * <p>
+ * 부하 시나리오는 수동으로 실행하며, 종단 지연 시간, 아웃박스 테이블 최대 크기, 메일 한 통당 성공 처리 쿼리 수를 출력한다.
+ */
+class MailPipelineLoadTest extends EmbeddedSmtpTest {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int RECIPIENTS_PER_REMINDER = 5;
+    private static final int REMINDER_COUNT = 2_000;
+    private static final int CONCURRENT_REQUESTS = 8;
+    private static final AtomicLong SETUP_SEQUENCE = new AtomicLong();
+
+    @Autowired
+    private Reminder reminder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrganizationMemberRepository organizationMemberRepository;
+
+    @Autowired
+    private OrganizationGroupRepository organizationGroupRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private long setupSequence;
+    private Long eventId;
+    private List<Long> organizationMemberIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+        MailPipelineStatementInspector.reset();
+        setupSequence = SETUP_SEQUENCE.incrementAndGet();
+        organizationMemberIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> createEventAndMembers());
+    }
+
+    private void createEventAndMembers() {
+        var organization = organizationRepository.save(Organization.create("아맞다", "설명", "img.png"));
+        var group = organizationGroupRepository.save(OrganizationGroup.create("백엔드"));
+        var organizer = createOrganizationMember(organization, group, "host");
+        var now = LocalDateTime.now();
+        eventId = eventRepository.save(Event.create(
+                        "부하 테스트 이벤트", "내용", "장소", organizer, organization,
+                        EventOperationPeriod.create(
+                                now.plusDays(1), now.plusDays(3),
+                                now.plusDays(4), now.plusDays(5),
+                                now
+                        ),
+                        MEMBER_COUNT,
+                        false
+                ))
+                .getId();
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            organizationMemberIds.add(createOrganizationMember(organization, group, "guest" + i).getId());
+        }
+    }
+
+    @Test
+    void 리마인더_메일이_내장_SMTP_서버로_발송되고_아웃박스가_비워진다() {
+        // when
+        remind(0);
+
+        // then
+        var received = greenMail.waitForIncomingEmail(5_000, RECIPIENTS_PER_REMINDER);
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> countOutboxes() == 0);
+        assertSoftly(softly -> {
+            softly.assertThat(received)
+                    .isTrue();
+            softly.assertThat(greenMail.getReceivedMessages())
+                    .hasSize(RECIPIENTS_PER_REMINDER);
+        });
+    }
+
+    @Disabled
+    @Test
+    void 리마인더_부하_시나리오() {
+        // given
+        var expectedMessageCount = REMINDER_COUNT * RECIPIENTS_PER_REMINDER;
+        var maxOutboxCount = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> maxOutboxCount.accumulateAndGet(countOutboxes(), Math::max),
+                0,
+                100,
+                TimeUnit.MILLISECONDS
+        );
+
+        // when
+        long startedAt = System.nanoTime();
+        try (ExecutorService requests = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            CompletableFuture.allOf(
+                    IntStream.range(0, REMINDER_COUNT)
+                            .mapToObj(i -> CompletableFuture.runAsync(() -> remind(i), requests))
+                            .toArray(CompletableFuture[]::new)
+            ).join();
+        }
+        long enqueuedAt = System.nanoTime();
+        var received = greenMail.waitForIncomingEmail(120_000, expectedMessageCount);
+        long deliveredAt = System.nanoTime();
+        await().atMost(30, TimeUnit.SECONDS)
+                .until(() -> countOutboxes() == 0);
+        sampler.shutdownNow();
+
+        // then
+        var sentMessageCount = REMINDER_COUNT;
+        var elapsed = Duration.ofNanos(deliveredAt - startedAt);
+        System.out.printf(
+                """
+                        reminders: %d, recipients per reminder: %d, received messages: %d
+                        enqueue: %d ms, end-to-end: %d ms, throughput: %.1f messages/s
+                        max outbox rows: %d
+                        mail pipeline statements: %d (%.2f per sent message)
+                        delivery latency: %s
+                        smtp send: %s
+                        """,
+                REMINDER_COUNT,
+                RECIPIENTS_PER_REMINDER,
+                greenMail.getReceivedMessages().length,
+                Duration.ofNanos(enqueuedAt - startedAt)
+                        .toMillis(),
+                elapsed.toMillis(),
+                expectedMessageCount * 1_000.0 / Math.max(1, elapsed.toMillis()),
+                maxOutboxCount.get(),
+                MailPipelineStatementInspector.mailPipelineStatementCount(),
+                (double) MailPipelineStatementInspector.mailPipelineStatementCount() / sentMessageCount,
+                describe(meterRegistry.find("email.delivery.latency")
+                        .timer()),
+                describe(meterRegistry.find("email.smtp.send")
+                        .timer())
+        );
+        assertSoftly(softly -> softly.assertThat(received)
+                .isTrue());
+    }
+
+    private void remind(final int sequence) {
+        var fromIndex = (sequence * RECIPIENTS_PER_REMINDER) % MEMBER_COUNT;
+        var recipientIds = organizationMemberIds.subList(fromIndex, fromIndex + RECIPIENTS_PER_REMINDER);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var event = eventRepository.findById(eventId)
+                    .orElseThrow();
+            var recipients = organizationMemberRepository.findAllById(recipientIds);
+            reminder.remind(recipients, event, "부하 테스트 리마인더 " + sequence % 50);
+        });
+    }
+
+    private long countOutboxes() {
+        return jdbcTemplate.queryForObject("select count(*) from email_outbox", Long.class);
+    }
+
+    private OrganizationMember createOrganizationMember(
+            final Organization organization,
+            final OrganizationGroup group,
+            final String nickname
+    ) {
+        var email = nickname + "." + setupSequence + "@example.com";
+        var member = memberRepository.save(Member.create(nickname, email, "pic"));
+
+        return organizationMemberRepository.save(
+                OrganizationMember.create(nickname, member, organization, OrganizationMemberRole.USER, group)
+        );
+    }
+
+    private String describe(final Timer timer) {
+        if (timer == null) {
+            return "n/a";
+        }
+
+        return String.format(
+                "count %d, mean %.1f ms, max %.1f ms",
+                timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS)
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.ahmadda.learning.infra.notification;
+
+import com.ahmadda.infra.notification.push.FakeFcmMessagingGateway;
+import com.ahmadda.infra.notification.push.FcmPushContent;
+import com.ahmadda.infra.notification.push.FcmPushNotifier;
+import com.ahmadda.infra.notification.push.FcmPushRetryRepository;
+import com.ahmadda.infra.notification.push.FcmRegistrationToken;
+import com.ahmadda.infra.notification.push.FcmRegistrationTokenCache;
+import com.ahmadda.infra.notification.push.FcmRegistrationTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * 실제 FCM 대신 FakeFcmMessagingGateway 로 리마인더 푸시 발송 체인(토큰 조회 → 500개 배치 동시 발송 → 실패 토큰 처리)을 실행한다.
+ * <p>
+ * 리마인더는 비동기로 발송되므로, 같은 일을 동기로 하는 토큰 캐시 조회와 FcmPushNotifier.resend 로 발송 시간을 잰다.
+ * 부하 시나리오는 수동으로 실행하며, 발송 처리량, 배치 발송 시간, 실패 처리 시간, 삭제·재시도된 토큰 수를 출력한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles(profiles = "test")
+@TestPropertySource(properties = {
+        "push.fake.enabled=true",
+        "push.fake.latency=50ms",
+        "push.fake.unregistered-ratio=0.02",
+        "push.fake.unavailable-ratio=0.01",
+        "push.fake.quota-exceeded-ratio=0.05",
+        "management.metrics.enable.all=true",
+        "spring.jpa.show-sql=false"
+})
+class PushFanOutLoadTest {
+
+    private static final FcmPushContent CONTENT =
+            new FcmPushContent("리마인더", "이벤트가 곧 시작됩니다.", "http://localhost:5173/1/event/1");
+    private static final int SMOKE_TOKEN_COUNT = 1_200;
+    private static final int LOAD_TOKEN_COUNT = 5_000;
+    private static final int REMINDER_COUNT = 20;
+    private static final int CONCURRENT_REMINDERS = 4;
+
+    @Autowired
+    private FcmPushNotifier fcmPushNotifier;
+
+    @Autowired
+    private FakeFcmMessagingGateway fakeFcmMessagingGateway;
+
+    @Autowired
+    private FcmRegistrationTokenCache fcmRegistrationTokenCache;
+
+    @Autowired
+    private FcmRegistrationTokenRepository fcmRegistrationTokenRepository;
+
+    @Autowired
+    private FcmPushRetryRepository fcmPushRetryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        fcmPushRetryRepository.deleteAllInBatch();
+        fcmRegistrationTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 실패한_토큰은_모두_삭제되거나_재시도_대상으로_등록된다() {
+        // given
+        var memberIds = saveTokens(SMOKE_TOKEN_COUNT);
+        var sentTokenCount = fakeFcmMessagingGateway.getTokenCount();
+
+        // when
+        var rescheduled = remind(memberIds);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(fakeFcmMessagingGateway.getTokenCount() - sentTokenCount)
+                    .isEqualTo(SMOKE_TOKEN_COUNT);
+            softly.assertThat(fcmPushRetryRepository.count())
+                    .isEqualTo(rescheduled.size());
+            softly.assertThat(fcmRegistrationTokenRepository.findAllByRegistrationTokenIn(rescheduled))
+                    .hasSameSizeAs(rescheduled);
+        });
+    }
+
+    @Disabled
+    @Test
+    void 리마인더_푸시_부하_시나리오() {
+        // given
+        var memberIds = saveTokens(LOAD_TOKEN_COUNT);
+        var multicastCount = fakeFcmMessagingGateway.getMulticastCount();
+        var sentTokenCount = fakeFcmMessagingGateway.getTokenCount();
+
+        // when
+        long startedAt = System.nanoTime();
+        try (ExecutorService reminders = Executors.newFixedThreadPool(CONCURRENT_REMINDERS)) {
+            CompletableFuture.allOf(
+                    LongStream.range(0, REMINDER_COUNT)
+                            .mapToObj(i -> CompletableFuture.runAsync(() -> remind(memberIds), reminders))
+                            .toArray(CompletableFuture[]::new)
+            ).join();
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        var sentTokens = fakeFcmMessagingGateway.getTokenCount() - sentTokenCount;
+        System.out.printf(
+                """
+                        reminders: %d, tokens per reminder: %d, sent tokens: %d, multicasts: %d
+                        end-to-end: %d ms, throughput: %.1f tokens/s
+                        remaining tokens: %d, pending retries: %d
+                        batch send: %s
+                        failure handling: %s
+                        """,
+                REMINDER_COUNT,
+                LOAD_TOKEN_COUNT,
+                sentTokens,
+                fakeFcmMessagingGateway.getMulticastCount() - multicastCount,
+                elapsed.toMillis(),
+                sentTokens * 1_000.0 / Math.max(1, elapsed.toMillis()),
+                fcmRegistrationTokenRepository.count(),
+                fcmPushRetryRepository.count(),
+                describe(meterRegistry.find("push.fcm.batch")
+                        .timer()),
+                describe(meterRegistry.find("push.fcm.failure.handling")
+                        .timer())
+        );
+        assertSoftly(softly -> softly.assertThat(sentTokens)
+                .isGreaterThanOrEqualTo(LOAD_TOKEN_COUNT));
+    }
+
+    private List<Long> saveTokens(final int tokenCount) {
+        var now = LocalDateTime.now();
+        var memberIds = LongStream.rangeClosed(1, tokenCount)
+                .boxed()
+                .toList();
+        fcmRegistrationTokenRepository.saveAll(memberIds.stream()
+                .map(memberId -> FcmRegistrationToken.create(memberId, "token-" + memberId, now))
+                .toList());
+        fcmRegistrationTokenCache.invalidate(memberIds);
+
+        return memberIds;
+    }
+
+    private List<String> remind(final List<Long> memberIds) {
+        var registrationTokens = fcmRegistrationTokenCache.getRegistrationTokens(memberIds);
+
+        return fcmPushNotifier.resend(CONTENT, registrationTokens);
+    }
+
+    private String describe(final Timer timer) {
+        if (timer == null) {
+            return "n/a";
+        }
+
+        return String.format(
+                "count %d, mean %.1f ms, max %.1f ms",
+                timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS)
+        );
+    }
+}
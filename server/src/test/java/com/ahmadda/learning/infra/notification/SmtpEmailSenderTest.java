@@ -68,7 +68,7 @@ class SmtpEmailSenderTest {
                 """;
 
         // when & then
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(1L, recipients, subject, body);
     }
 
     // Gmail: BCC 최대 100명
@@ -87,6 +87,6 @@ class SmtpEmailSenderTest {
                 """;
 
         // when & then
-        sut.sendEmails(recipients, subject, body);
+        sut.sendEmails(1L, recipients, subject, body);
     }
 }
@@ -0,0 +1,141 @@
+package com.ahmadda.presentation.cache;
+
+import com.ahmadda.application.dto.EventGuestChanged;
+import com.ahmadda.application.dto.EventRegistrationClosed;
+import com.ahmadda.application.dto.EventUpdated;
+import com.ahmadda.presentation.dto.EventDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EventDetailResponseCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    EventDetailResponseCache sut;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new EventDetailResponseCache(meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_이벤트를_다시_조회하면_캐시된_응답을_반환한다() {
+        // when
+        var first = sut.get(1L, this::load);
+        var second = sut.get(1L, this::load);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(second)
+                    .isSameAs(first);
+            softly.assertThat(loadCount.get())
+                    .isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 이벤트가_수정되면_캐시가_무효화된다() {
+        // given
+        sut.get(1L, this::load);
+
+        // when
+        sut.onEventUpdated(new EventUpdated(1L));
+        sut.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 게스트가_참여하거나_취소하면_캐시가_무효화된다() {
+        // given
+        sut.get(1L, this::load);
+
+        // when
+        sut.onEventGuestChanged(new EventGuestChanged(1L));
+        sut.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 모집이_마감되면_캐시가_무효화된다() {
+        // given
+        sut.get(1L, this::load);
+
+        // when
+        sut.onEventRegistrationClosed(new EventRegistrationClosed(1L));
+        sut.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 다른_이벤트의_무효화는_캐시에_영향을_주지_않는다() {
+        // given
+        sut.get(1L, this::load);
+
+        // when
+        sut.onEventUpdated(new EventUpdated(2L));
+        sut.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시_적중과_미적중_횟수를_메트릭으로_노출한다() {
+        // when
+        sut.get(1L, this::load);
+        sut.get(1L, this::load);
+        sut.get(2L, this::load);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(meterRegistry.get("cache.gets")
+                            .tag("cache", "eventDetailResponse")
+                            .tag("result", "hit")
+                            .functionCounter()
+                            .count())
+                    .isEqualTo(1.0);
+            softly.assertThat(meterRegistry.get("cache.gets")
+                            .tag("cache", "eventDetailResponse")
+                            .tag("result", "miss")
+                            .functionCounter()
+                            .count())
+                    .isEqualTo(2.0);
+        });
+    }
+
+    private EventDetailResponse load(final Long eventId) {
+        loadCount.incrementAndGet();
+        var now = LocalDateTime.now();
+
+        return new EventDetailResponse(
+                eventId,
+                "title",
+                "description",
+                "place",
+                List.of("organizer"),
+                now.plusDays(2),
+                now.plusDays(3),
+                now,
+                now.plusDays(1),
+                0,
+                10,
+                List.of()
+        );
+    }
+}
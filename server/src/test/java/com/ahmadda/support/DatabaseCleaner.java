@@ -0,0 +1,36 @@
+package com.ahmadda.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 커밋된 테스트 데이터를 정리하기 위해 현재 스키마의 모든 테이블을 비운다.
+ * <p>
+ * 테이블 목록은 INFORMATION_SCHEMA 에서 읽으므로 엔티티가 추가되어도 정리 대상을 따로 관리하지 않는다.
+ */
+public class DatabaseCleaner {
+
+    private static final String FIND_TABLE_NAMES_SQL = """
+            SELECT TABLE_NAME
+            FROM INFORMATION_SCHEMA.TABLES
+            WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_TYPE = 'BASE TABLE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseCleaner(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void clean() {
+        List<String> tableNames = jdbcTemplate.queryForList(FIND_TABLE_NAMES_SQL, String.class);
+
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            tableNames.forEach(tableName -> jdbcTemplate.execute("TRUNCATE TABLE \"" + tableName + "\""));
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ahmadda.support;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 실제 SMTP 제공자 대신 내장 SMTP 서버(GreenMail)로 메일 발송 체인 전체를 실행하는 테스트.
+ * <p>
+ * google, aws 계정 모두 localhost:3025 로 보내며, 발송 한도는 부하를 걸 수 있도록 충분히 높인다.
+ * 발송한 메일은 모든 테스트가 끝날 때까지 서버에 남으므로 필요하면 테스트에서 직접 비운다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles(profiles = "test")
+@TestPropertySource(properties = {
+        "mail.noop=false",
+        "management.metrics.enable.all=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ahmadda.support.MailPipelineStatementInspector",
+        "smtp.google.host=localhost",
+        "smtp.google.port=3025",
+        "smtp.google.username=google",
+        "smtp.google.password=google",
+        "smtp.google.properties[mail.smtp.auth]=false",
+        "smtp.google.properties[mail.smtp.starttls.enable]=false",
+        "smtp.google.pool-size=8",
+        "smtp.google.max-messages-per-second=10000",
+        "smtp.google.max-recipients-per-second=100000",
+        "smtp.aws.host=localhost",
+        "smtp.aws.port=3025",
+        "smtp.aws.username=aws",
+        "smtp.aws.password=aws",
+        "smtp.aws.properties[mail.smtp.auth]=false",
+        "smtp.aws.properties[mail.smtp.starttls.enable]=false",
+        "smtp.aws.pool-size=8",
+        "smtp.aws.max-messages-per-second=10000",
+        "smtp.aws.max-recipients-per-second=100000"
+})
+public abstract class EmbeddedSmtpTest {
+
+    @RegisterExtension
+    protected static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withPerMethodLifecycle(false);
+
+}
@@ -8,17 +8,22 @@ import com.ahmadda.domain.organization.RandomCodeGenerator;
 import com.ahmadda.infra.auth.oauth.GoogleOAuthProvider;
 import com.ahmadda.infra.notification.mail.EmailSender;
 import io.jeyong.nplus1detector.test.annotation.NPlusOneTest;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @ActiveProfiles(profiles = "test")
 @NPlusOneTest(NPlusOneTest.Mode.LOGGING)
+@Import(DatabaseCleaner.class)
 public abstract class IntegrationTest {
 
     @MockitoBean
@@ -43,4 +48,29 @@ public abstract class IntegrationTest {
     @MockitoBean
     protected RandomCodeGenerator randomCodeGenerator;
 
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private boolean committed;
+
+    /**
+     * 테스트 트랜잭션을 커밋하고 종료한다. 커밋된 데이터는 테스트가 끝난 뒤 모든 테이블을 비워 정리한다.
+     */
+    protected void commitTestTransaction() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        committed = true;
+    }
+
+    @AfterEach
+    void cleanUpCommittedData() {
+        if (!committed) {
+            return;
+        }
+        if (TestTransaction.isActive()) {
+            TestTransaction.end();
+        }
+
+        databaseCleaner.clean();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ahmadda.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 발송 스레드(커밋 직후 발송, BCC 청크 발송)에서 실행된 SQL 수를 센다.
+ * <p>
+ * 발송 스레드에서 실행되는 쿼리는 대부분 발송 성공 처리(EmailOutboxSuccessHandler)의 쿼리이므로,
+ * 부하 시나리오에서 메일 한 통당 성공 처리 쿼리 수를 추정하는 데 쓴다.
+ */
+public class MailPipelineStatementInspector implements StatementInspector {
+
+    private static final AtomicLong MAIL_PIPELINE_STATEMENT_COUNT = new AtomicLong();
+
+    public static long mailPipelineStatementCount() {
+        return MAIL_PIPELINE_STATEMENT_COUNT.get();
+    }
+
+    public static void reset() {
+        MAIL_PIPELINE_STATEMENT_COUNT.set(0);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        String threadName = Thread.currentThread()
+                .getName();
+        if (threadName.startsWith("email-delivery-") || threadName.contains("-email-chunk-")) {
+            MAIL_PIPELINE_STATEMENT_COUNT.incrementAndGet();
+        }
+
+        return sql;
+    }
+}